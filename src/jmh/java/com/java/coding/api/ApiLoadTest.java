@@ -0,0 +1,132 @@
+package com.java.coding.api;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load driver for the REST API, reporting throughput and
+ * latency percentiles at increasing concurrency.
+ *
+ * Each concurrency level runs that many virtual-thread clients, each sending
+ * its next request as soon as the previous one completes, for a fixed
+ * duration after a warm-up. Latencies are recorded per client (no shared
+ * state on the hot path) and merged at the end.
+ *
+ * It only needs the JDK. Start the application first (./mvnw spring-boot:run),
+ * then:
+ *
+ * <pre>
+ * ./mvnw -Pbenchmark compile
+ * java -cp target/classes com.java.coding.api.ApiLoadTest \
+ *     http://localhost:8080/api/numbers/1000000007/prime 10 1,4,16,64,256
+ * </pre>
+ *
+ * Arguments: url [seconds per level] [comma-separated concurrency levels]
+ * [JSON body, sent as POST when present].
+ */
+public class ApiLoadTest {
+
+	private static final Duration WARMUP = Duration.ofSeconds(3);
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.err.println("Usage: ApiLoadTest url [seconds] [levels, e.g. 1,4,16,64] [JSON body]");
+			return;
+		}
+		URI uri = URI.create(args[0]);
+		Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 10);
+		int[] levels = Arrays.stream((args.length > 2 ? args[2] : "1,4,16,64,256").split(","))
+				.mapToInt(Integer::parseInt)
+				.toArray();
+		HttpRequest request = args.length > 3
+				? HttpRequest.newBuilder(uri)
+						.header("Content-Type", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofString(args[3]))
+						.build()
+				: HttpRequest.newBuilder(uri).GET().build();
+
+		try (HttpClient client = HttpClient.newBuilder()
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build()) {
+			System.out.printf("Target: %s %s%n", request.method(), uri);
+			run(client, request, 8, WARMUP);
+			System.out.printf("%12s %12s %12s %12s %12s %8s%n", "concurrency", "requests/s", "p50 (ms)", "p99 (ms)",
+					"max (ms)", "errors");
+			for (int concurrency : levels) {
+				Result result = run(client, request, concurrency, duration);
+				System.out.printf("%12d %12.0f %12.3f %12.3f %12.3f %8d%n", concurrency,
+						result.requests() / (duration.toNanos() / 1e9),
+						result.percentile(0.50) / 1e6, result.percentile(0.99) / 1e6,
+						result.percentile(1.0) / 1e6, result.errors());
+			}
+		}
+	}
+
+	private record Result(long[] latencies, long errors) {
+
+		long requests() {
+			return latencies.length;
+		}
+
+		double percentile(double p) {
+			if (latencies.length == 0) {
+				return Double.NaN;
+			}
+			int index = (int) Math.ceil(p * latencies.length) - 1;
+			return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+		}
+	}
+
+	private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+			throws Exception {
+		long deadline = System.nanoTime() + duration.toNanos();
+		AtomicLong errors = new AtomicLong();
+		List<Future<long[]>> clients = new ArrayList<>(concurrency);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				clients.add(executor.submit(() -> {
+					long[] latencies = new long[1024];
+					int count = 0;
+					while (System.nanoTime() < deadline) {
+						long start = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() >= 400) {
+								errors.incrementAndGet();
+								continue;
+							}
+						} catch (java.io.IOException e) {
+							errors.incrementAndGet();
+							continue;
+						}
+						if (count == latencies.length) {
+							latencies = Arrays.copyOf(latencies, count * 2);
+						}
+						latencies[count++] = System.nanoTime() - start;
+					}
+					return Arrays.copyOf(latencies, count);
+				}));
+			}
+			long[] all = new long[0];
+			for (Future<long[]> future : clients) {
+				long[] latencies = future.get();
+				int offset = all.length;
+				all = Arrays.copyOf(all, offset + latencies.length);
+				System.arraycopy(latencies, 0, all, offset, latencies.length);
+			}
+			Arrays.sort(all);
+			return new Result(all, errors.get());
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.java.coding.numberlist;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks every strategy in {@link EvenOddNumberCounter}: even and odd counting.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class EvenOddNumberCounterBenchmark {
+
+	@Benchmark
+	public long countEvenNumbers(NumberListState state) {
+		return EvenOddNumberCounter.countEvenNumbers(state.list);
+	}
+
+	@Benchmark
+	public long countOddNumbers(NumberListState state) {
+		return EvenOddNumberCounter.countOddNumbers(state.list);
+	}
+
+	@Benchmark
+	public long countEvenNumbersUsingVectorApi(NumberListState state) {
+		return EvenOddNumberCounter.countEvenNumbersUsingVectorApi(state.array);
+	}
+
+	@Benchmark
+	public long countOddNumbersUsingVectorApi(NumberListState state) {
+		return EvenOddNumberCounter.countOddNumbersUsingVectorApi(state.array);
+	}
+
+	@Benchmark
+	public long countEvenNumbersUsingParityBitmap(NumberListState state) {
+		return EvenOddNumberCounter.countEvenNumbersUsingParityBitmap(state.array);
+	}
+
+}
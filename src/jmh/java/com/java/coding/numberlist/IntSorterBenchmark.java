@@ -0,0 +1,106 @@
+package com.java.coding.numberlist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link IntSorter} with Arrays.sort and the boxed comparator sorts
+ * used by ListAscendingSorter / ListDescendingSorter.
+ *
+ * FULL_RANGE exercises radix sort, NARROW_RANGE (values in [-1000, 1000))
+ * exercises the automatic counting-sort path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IntSorterBenchmark {
+
+	public enum Distribution {
+		FULL_RANGE, NARROW_RANGE
+	}
+
+	@Param({ "1000", "100000", "10000000" })
+	public int size;
+
+	@Param({ "FULL_RANGE", "NARROW_RANGE" })
+	public Distribution distribution;
+
+	private int[] values;
+	private int[] work;
+	private List<Integer> boxed;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(42);
+		values = distribution == Distribution.FULL_RANGE
+				? random.ints(size).toArray()
+				: random.ints(size, -1000, 1000).toArray();
+		work = new int[size];
+		boxed = Arrays.stream(values).boxed().toList();
+	}
+
+	@Setup(Level.Invocation)
+	public void reset() {
+		System.arraycopy(values, 0, work, 0, size);
+	}
+
+	@Benchmark
+	public int[] intSorterAscending() {
+		IntSorter.sort(work);
+		return work;
+	}
+
+	@Benchmark
+	public int[] intSorterDescending() {
+		IntSorter.sortDescending(work);
+		return work;
+	}
+
+	@Benchmark
+	public int[] intSorterParallel() {
+		IntSorter.parallelSort(work);
+		return work;
+	}
+
+	@Benchmark
+	public int[] arraysSort() {
+		Arrays.sort(work);
+		return work;
+	}
+
+	@Benchmark
+	public List<Integer> boxedCollectionsSort() {
+		List<Integer> copy = new ArrayList<>(boxed);
+		Collections.sort(copy);
+		return copy;
+	}
+
+	@Benchmark
+	public List<Integer> boxedReverseOrder() {
+		List<Integer> copy = new ArrayList<>(boxed);
+		copy.sort(Comparator.reverseOrder());
+		return copy;
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.java.coding.numberlist;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks every strategy in {@link ListAscendingSorter}: ascending sort.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListAscendingSorterBenchmark {
+
+	@Benchmark
+	public List<Integer> sortWithStream(NumberListState state) {
+		return ListAscendingSorter.sortWithStream(state.list);
+	}
+
+	@Benchmark
+	public List<Integer> sortWithNaturalOrder(NumberListState state) {
+		return ListAscendingSorter.sortWithNaturalOrder(state.list);
+	}
+
+	@Benchmark
+	public List<Integer> sortWithCompareTo(NumberListState state) {
+		return ListAscendingSorter.sortWithCompareTo(state.list);
+	}
+
+	@Benchmark
+	public List<Integer> sortWithCollectionsSort(NumberListState state) {
+		return ListAscendingSorter.sortWithCollectionsSort(state.list);
+	}
+
+}
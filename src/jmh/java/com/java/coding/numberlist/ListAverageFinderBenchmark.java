@@ -0,0 +1,53 @@
+package com.java.coding.numberlist;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks every strategy in {@link ListAverageFinder}: average.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListAverageFinderBenchmark {
+
+	@Benchmark
+	public double averageUsingMapToDouble(NumberListState state) {
+		return ListAverageFinder.averageUsingMapToDouble(state.list);
+	}
+
+	@Benchmark
+	public double averageUsingCollectors(NumberListState state) {
+		return ListAverageFinder.averageUsingCollectors(state.list);
+	}
+
+	@Benchmark
+	public double averageUsingSummaryStatistics(NumberListState state) {
+		return ListAverageFinder.averageUsingSummaryStatistics(state.list);
+	}
+
+	@Benchmark
+	public double averageUsingManualMethod(NumberListState state) {
+		return ListAverageFinder.averageUsingManualMethod(state.list);
+	}
+
+	@Benchmark
+	public double averageUsingIntArray(NumberListState state) {
+		return ListAverageFinder.averageUsingIntArray(state.array);
+	}
+
+	@Benchmark
+	public double averageUsingRunningStatistics(NumberListState state) {
+		return ListAverageFinder.averageUsingRunningStatistics(state.array);
+	}
+
+}
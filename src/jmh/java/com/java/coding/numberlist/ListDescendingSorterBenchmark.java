@@ -0,0 +1,39 @@
+package com.java.coding.numberlist;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks every strategy in {@link ListDescendingSorter}: descending sort.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListDescendingSorterBenchmark {
+
+	@Benchmark
+	public List<Integer> sortWithDescOrder(NumberListState state) {
+		return ListDescendingSorter.sortWithDescOrder(state.list);
+	}
+
+	@Benchmark
+	public List<Integer> sortWithCustomDescCompare(NumberListState state) {
+		return ListDescendingSorter.sortWithCustomDescCompare(state.list);
+	}
+
+	@Benchmark
+	public List<Integer> sortWithCollectionsReverse(NumberListState state) {
+		return ListDescendingSorter.sortWithCollectionsReverse(state.list);
+	}
+
+}
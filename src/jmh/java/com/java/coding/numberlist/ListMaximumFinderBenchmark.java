@@ -0,0 +1,58 @@
+package com.java.coding.numberlist;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks every strategy in {@link ListMaximumFinder}: maximum value lookup.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ListMaximumFinderBenchmark {
+
+	@Benchmark
+	public int findMaxUsingMapToInt(NumberListState state) {
+		return ListMaximumFinder.findMaxUsingMapToInt(state.list);
+	}
+
+	@Benchmark
+	public int findMaxUsingIntegerCompare(NumberListState state) {
+		return ListMaximumFinder.findMaxUsingIntegerCompare(state.list);
+	}
+
+	@Benchmark
+	public int findMaxUsingReduce(NumberListState state) {
+		return ListMaximumFinder.findMaxUsingReduce(state.list);
+	}
+
+	@Benchmark
+	public int findMaxUsingComparableCompare(NumberListState state) {
+		return ListMaximumFinder.findMaxUsingComparableCompare(state.list);
+	}
+
+	@Benchmark
+	public int findMaxUsingSorted(NumberListState state) {
+		return ListMaximumFinder.findMaxUsingSorted(state.list);
+	}
+
+	@Benchmark
+	public int findMaxUsingIntArray(NumberListState state) {
+		return ListMaximumFinder.findMaxUsingIntArray(state.array);
+	}
+
+	@Benchmark
+	public int findMaxUsingVectorApi(NumberListState state) {
+		return ListMaximumFinder.findMaxUsingVectorApi(state.array);
+	}
+
+}
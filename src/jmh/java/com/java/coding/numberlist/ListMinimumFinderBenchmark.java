@@ -0,0 +1,58 @@
+package com.java.coding.numberlist;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks every strategy in {@link ListMinimumFinder}: minimum value lookup.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ListMinimumFinderBenchmark {
+
+	@Benchmark
+	public int findMinUsingMapToInt(NumberListState state) {
+		return ListMinimumFinder.findMinUsingMapToInt(state.list);
+	}
+
+	@Benchmark
+	public int findMinUsingIntegerCompare(NumberListState state) {
+		return ListMinimumFinder.findMinUsingIntegerCompare(state.list);
+	}
+
+	@Benchmark
+	public int findMinUsingReduce(NumberListState state) {
+		return ListMinimumFinder.findMinUsingReduce(state.list);
+	}
+
+	@Benchmark
+	public int findMinUsingComparableCompare(NumberListState state) {
+		return ListMinimumFinder.findMinUsingComparableCompare(state.list);
+	}
+
+	@Benchmark
+	public int findMinUsingSorted(NumberListState state) {
+		return ListMinimumFinder.findMinUsingSorted(state.list);
+	}
+
+	@Benchmark
+	public int findMinUsingIntArray(NumberListState state) {
+		return ListMinimumFinder.findMinUsingIntArray(state.array);
+	}
+
+	@Benchmark
+	public int findMinUsingVectorApi(NumberListState state) {
+		return ListMinimumFinder.findMinUsingVectorApi(state.array);
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.java.coding.numberlist;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks every strategy in {@link ListReverser}: copying reversal,
+ * O(1) views and in-place reversal.
+ *
+ * The iterate* methods reverse and then walk the result once, which is what
+ * callers actually do; that is where a view saves the whole copy.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListReverserBenchmark {
+
+	@Benchmark
+	public List<Integer> reverseWithCollections(NumberListState state) {
+		return ListReverser.reverseWithCollections(state.list);
+	}
+
+	@Benchmark
+	public List<Integer> reverseWithIterator(NumberListState state) {
+		return ListReverser.reverseWithIterator(state.list);
+	}
+
+	@Benchmark
+	public List<Integer> reverseWithStreamIndex(NumberListState state) {
+		return ListReverser.reverseWithStreamIndex(state.list);
+	}
+
+	@Benchmark
+	public List<Integer> reverseAsView(NumberListState state) {
+		return ListReverser.reverseAsView(state.list);
+	}
+
+	@Benchmark
+	public ReversedIntView reverseAsIntView(NumberListState state) {
+		return ListReverser.reverseAsIntView(state.array);
+	}
+
+	@Benchmark
+	public int[] reverseInPlace(NumberListState state) {
+		return ListReverser.reverseInPlace(state.array);
+	}
+
+	@Benchmark
+	public long iterateReversedCopy(NumberListState state) {
+		long sum = 0;
+		for (int value : ListReverser.reverseWithCollections(state.list)) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long iterateReversedListView(NumberListState state) {
+		long sum = 0;
+		for (int value : ListReverser.reverseAsView(state.list)) {
+			sum += value;
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long iterateReversedIntView(NumberListState state) {
+		return ListReverser.reverseAsIntView(state.array).stream().asLongStream().sum();
+	}
+
+}
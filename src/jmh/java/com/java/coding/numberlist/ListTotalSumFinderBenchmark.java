@@ -0,0 +1,58 @@
+package com.java.coding.numberlist;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks every strategy in {@link ListTotalSumFinder}: total sum.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ListTotalSumFinderBenchmark {
+
+	@Benchmark
+	public long sumUsingMapToInt(NumberListState state) {
+		return ListTotalSumFinder.sumUsingMapToInt(state.list);
+	}
+
+	@Benchmark
+	public long sumUsingReduce(NumberListState state) {
+		return ListTotalSumFinder.sumUsingReduce(state.list);
+	}
+
+	@Benchmark
+	public long sumUsingCollectors(NumberListState state) {
+		return ListTotalSumFinder.sumUsingCollectors(state.list);
+	}
+
+	@Benchmark
+	public long sumUsingForEach(NumberListState state) {
+		return ListTotalSumFinder.sumUsingForEach(state.list);
+	}
+
+	@Benchmark
+	public long sumUsingSummaryStatistics(NumberListState state) {
+		return ListTotalSumFinder.sumUsingSummaryStatistics(state.list);
+	}
+
+	@Benchmark
+	public long sumUsingIntArray(NumberListState state) {
+		return ListTotalSumFinder.sumUsingIntArray(state.array);
+	}
+
+	@Benchmark
+	public long sumUsingVectorApi(NumberListState state) {
+		return ListTotalSumFinder.sumUsingVectorApi(state.array);
+	}
+
+}
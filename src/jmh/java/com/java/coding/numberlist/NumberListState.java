@@ -0,0 +1,59 @@
+package com.java.coding.numberlist;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared JMH input for the numberlist benchmarks.
+ *
+ * Builds the same pseudo-random integers (fixed seed) for every list type so
+ * results are comparable across ArrayList, LinkedList and immutable List.of.
+ *
+ * Note: index-based strategies (e.g. reverseWithStreamIndex) are O(n²) on a
+ * LinkedList, so narrow the run with "-p listType=ARRAY_LIST,IMMUTABLE" for the
+ * largest sizes.
+ */
+@State(Scope.Benchmark)
+public class NumberListState {
+
+	public enum ListType {
+		ARRAY_LIST, LINKED_LIST, IMMUTABLE
+	}
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	@Param({ "ARRAY_LIST", "LINKED_LIST", "IMMUTABLE" })
+	public ListType listType;
+
+	public List<Integer> list;
+
+	/** Same values as {@link #list}, unboxed, for the primitive strategies. */
+	public int[] array;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(42);
+		array = new int[size];
+		Integer[] values = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			array[i] = random.nextInt(2_000_001) - 1_000_000;
+			values[i] = array[i];
+		}
+
+		list = switch (listType) {
+		case ARRAY_LIST -> new ArrayList<>(List.of(values));
+		case LINKED_LIST -> new LinkedList<>(List.of(values));
+		case IMMUTABLE -> List.of(values);
+		};
+	}
+
+}
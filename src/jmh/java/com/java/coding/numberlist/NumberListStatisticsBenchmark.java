@@ -0,0 +1,52 @@
+package com.java.coding.numberlist;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the fused {@link NumberListStatistics} pass against running the
+ * six separate numberlist strategies one after another.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberListStatisticsBenchmark {
+
+	@Benchmark
+	public void separatePasses(NumberListState state, Blackhole blackhole) {
+		blackhole.consume(ListTotalSumFinder.sumUsingMapToInt(state.list));
+		blackhole.consume(ListMinimumFinder.findMinUsingMapToInt(state.list));
+		blackhole.consume(ListMaximumFinder.findMaxUsingMapToInt(state.list));
+		blackhole.consume(ListAverageFinder.averageUsingMapToDouble(state.list));
+		blackhole.consume(EvenOddNumberCounter.countEvenNumbers(state.list));
+		blackhole.consume(EvenOddNumberCounter.countOddNumbers(state.list));
+		blackhole.consume(PositiveNegativeNumberCounter.countPositiveNumbers(state.list));
+		blackhole.consume(PositiveNegativeNumberCounter.countNegativeNumbers(state.list));
+	}
+
+	@Benchmark
+	public NumberListStatistics fusedCollector(NumberListState state) {
+		return state.list.stream().collect(NumberListStatistics.collector());
+	}
+
+	@Benchmark
+	public NumberListStatistics fusedList(NumberListState state) {
+		return NumberListStatistics.of(state.list);
+	}
+
+	@Benchmark
+	public NumberListStatistics fusedArray(NumberListState state) {
+		return NumberListStatistics.of(state.array);
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.java.coding.numberlist;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finds the sequential/parallel crossover for {@link ParallelIntOperations}.
+ *
+ * The parallel instance always forks (its leaf size is a quarter of the
+ * per-worker share), so comparing it with the sequential loop at each size
+ * shows where forking starts to pay off. Use the crossover size as the
+ * sequentialThreshold on that host.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelIntOperationsBenchmark {
+
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	public int size;
+
+	/** Worker count; 0 means Runtime.availableProcessors(). */
+	@Param({ "0" })
+	public int parallelism;
+
+	private int[] values;
+	private int[] sortInput;
+	private ParallelIntOperations parallel;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		parallel = new ParallelIntOperations(workers, Math.max(1, size / (4 * workers)));
+		values = new Random(42).ints(size).toArray();
+		sortInput = new int[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void resetSortInput() {
+		System.arraycopy(values, 0, sortInput, 0, size);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		parallel.close();
+	}
+
+	@Benchmark
+	public long sumSequential() {
+		return IntArrayAggregator.sum(values);
+	}
+
+	@Benchmark
+	public long sumParallel() {
+		return parallel.sum(values);
+	}
+
+	@Benchmark
+	public NumberListStatistics statisticsSequential() {
+		return NumberListStatistics.of(values);
+	}
+
+	@Benchmark
+	public NumberListStatistics statisticsParallel() {
+		return parallel.statistics(values);
+	}
+
+	@Benchmark
+	public int[] sortSequential() {
+		Arrays.sort(sortInput);
+		return sortInput;
+	}
+
+	@Benchmark
+	public int[] sortParallel() {
+		parallel.sort(sortInput);
+		return sortInput;
+	}
+
+}
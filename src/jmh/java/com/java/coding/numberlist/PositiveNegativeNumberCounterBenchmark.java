@@ -0,0 +1,53 @@
+package com.java.coding.numberlist;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks every strategy in {@link PositiveNegativeNumberCounter}: positive and negative counting.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class PositiveNegativeNumberCounterBenchmark {
+
+	@Benchmark
+	public long countPositiveNumbers(NumberListState state) {
+		return PositiveNegativeNumberCounter.countPositiveNumbers(state.list);
+	}
+
+	@Benchmark
+	public long countNegativeNumbers(NumberListState state) {
+		return PositiveNegativeNumberCounter.countNegativeNumbers(state.list);
+	}
+
+	@Benchmark
+	public long countPositiveNumbersUsingVectorApi(NumberListState state) {
+		return PositiveNegativeNumberCounter.countPositiveNumbersUsingVectorApi(state.array);
+	}
+
+	@Benchmark
+	public long countNegativeNumbersUsingVectorApi(NumberListState state) {
+		return PositiveNegativeNumberCounter.countNegativeNumbersUsingVectorApi(state.array);
+	}
+
+	@Benchmark
+	public long countPositiveNumbersUsingSignBitmap(NumberListState state) {
+		return PositiveNegativeNumberCounter.countPositiveNumbersUsingSignBitmap(state.array);
+	}
+
+	@Benchmark
+	public long countNegativeNumbersUsingSignBitmap(NumberListState state) {
+		return PositiveNegativeNumberCounter.countNegativeNumbersUsingSignBitmap(state.array);
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.java.coding.numberlist;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Top-10 via {@link TopKSelector} versus a full descending sort + subList.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopKSelectorBenchmark {
+
+	private static final int K = 10;
+
+	@Benchmark
+	public int[] topKUsingSelection(NumberListState state) {
+		return TopKSelector.topK(state.array, K);
+	}
+
+	@Benchmark
+	public List<Integer> topKUsingFullSort(NumberListState state) {
+		List<Integer> sorted = ListDescendingSorter.sortWithDescOrder(state.list);
+		return sorted.subList(0, Math.min(K, sorted.size()));
+	}
+
+	@Benchmark
+	public int medianUsingIntroselect(NumberListState state) {
+		return TopKSelector.median(state.array);
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.java.coding.numbers;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DigitKernel} table-driven digit operations against the original
+ * one-digit-per-step loops and String-based variants, on a batch of random
+ * non-negative longs with up to {@code maxDigits} digits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DigitKernelBenchmark {
+
+	@Param({ "6", "18" })
+	public int maxDigits;
+
+	@Param({ "10000" })
+	public int batchSize;
+
+	private long[] numbers;
+
+	private long[] longOut;
+
+	private boolean[] booleanOut;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		long bound = 1;
+		for (int i = 0; i < maxDigits; i++) {
+			bound *= 10;
+		}
+		numbers = new Random(42).longs(batchSize, 0, bound).toArray();
+		longOut = new long[batchSize];
+		booleanOut = new boolean[batchSize];
+	}
+
+	@Benchmark
+	public long digitSumLoop() {
+		long checksum = 0;
+		for (long n : numbers) {
+			checksum += NumberOfDigits.findSumOfDigits(n);
+		}
+		return checksum;
+	}
+
+	@Benchmark
+	public long digitSumStream() {
+		long checksum = 0;
+		for (long n : numbers) {
+			checksum += NumberOfDigits.findSumOfDigitsWithStream(n);
+		}
+		return checksum;
+	}
+
+	@Benchmark
+	public long[] digitSumKernelBatch() {
+		DigitKernel.digitSums(numbers, longOut);
+		return longOut;
+	}
+
+	@Benchmark
+	public long reverseLoop() {
+		long checksum = 0;
+		for (long n : numbers) {
+			checksum += ReverseNumber.reverseNumber(n);
+		}
+		return checksum;
+	}
+
+	@Benchmark
+	public long reverseStringBuilder() {
+		long checksum = 0;
+		for (long n : numbers) {
+			checksum += ReverseNumber.reverseNumberUsingStringBuilder(n);
+		}
+		return checksum;
+	}
+
+	@Benchmark
+	public long[] reverseKernelBatch() {
+		DigitKernel.reverseAll(numbers, longOut);
+		return longOut;
+	}
+
+	@Benchmark
+	public int palindromeHalfReverse() {
+		int count = 0;
+		for (long n : numbers) {
+			if (PalindromeNumber.isPalindromeNumber(n)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int palindromeStringBuilder() {
+		int count = 0;
+		for (long n : numbers) {
+			if (PalindromeNumber.isPalindromeWithStringBuilder(n)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int palindromeKernelBatch() {
+		return DigitKernel.palindromes(numbers, booleanOut);
+	}
+
+	@Benchmark
+	public int armstrongMathPow() {
+		int count = 0;
+		for (long n : numbers) {
+			if (ArmstrongNumber.isArmstrong(n)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int armstrongKernelBatch() {
+		return DigitKernel.armstrongNumbers(numbers, booleanOut);
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.java.coding.numbers;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link FactorialEngine} strategies against FactorialNumber's one-at-a-time
+ * loop. The loop is quadratic: at n = 10^6 expect minutes per op, so
+ * exclude it there with "-e loop" if needed.
+ *
+ * factorialWithCheckpoints is only meaningful after its first call, which is
+ * what repeated queries see.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FactorialEngineBenchmark {
+
+	@Param({ "1000", "10000", "100000", "1000000" })
+	public int n;
+
+	@Benchmark
+	public BigInteger loop() {
+		BigInteger result = BigInteger.ONE;
+		for (long i = n; i > 0; i--) {
+			result = result.multiply(BigInteger.valueOf(i));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public BigInteger binarySplitting() {
+		return FactorialEngine.binarySplitting(n);
+	}
+
+	@Benchmark
+	public BigInteger parallelBinarySplitting() {
+		return FactorialEngine.parallelBinarySplitting(n);
+	}
+
+	@Benchmark
+	public BigInteger primeSwing() {
+		return FactorialEngine.primeSwing(n);
+	}
+
+	@Benchmark
+	public BigInteger factorialWithCheckpoints() {
+		return FactorialEngine.factorial(n);
+	}
+
+}
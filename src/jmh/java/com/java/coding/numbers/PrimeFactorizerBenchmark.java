@@ -0,0 +1,90 @@
+package com.java.coding.numbers;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link PrimeFactorizer} (trial division + Pollard-Brent) against naive
+ * 6k ± 1 trial division, on a batch of random numbers below 2^bits.
+ *
+ * Naive trial division is O(√N), so keep bits &lt;= 40 for it to finish.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimeFactorizerBenchmark {
+
+	@Param({ "32", "40" })
+	public int bits;
+
+	@Param({ "1000" })
+	public int batchSize;
+
+	private long[] numbers;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		numbers = new Random(42).longs(batchSize, 2, 1L << bits).toArray();
+	}
+
+	@Benchmark
+	public long pollardBrent() {
+		long checksum = 0;
+		for (long n : numbers) {
+			checksum += PrimeFactorizer.primeFactors(n).length;
+		}
+		return checksum;
+	}
+
+	@Benchmark
+	public PrimeFactorizer.Factorization[] pollardBrentParallelBatch() {
+		return PrimeFactorizer.factorizeAll(numbers);
+	}
+
+	@Benchmark
+	public long naiveTrialDivision() {
+		long checksum = 0;
+		for (long n : numbers) {
+			checksum += trialDivisionFactorCount(n);
+		}
+		return checksum;
+	}
+
+	private static int trialDivisionFactorCount(long n) {
+		int count = 0;
+		for (long p : new long[] { 2, 3 }) {
+			while (n % p == 0) {
+				n /= p;
+				count++;
+			}
+		}
+		for (long i = 5; i * i <= n; i += 6) {
+			while (n % i == 0) {
+				n /= i;
+				count++;
+			}
+			while (n % (i + 2) == 0) {
+				n /= i + 2;
+				count++;
+			}
+		}
+		return n > 1 ? count + 1 : count;
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.java.coding.api;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * Maps the engines' argument and overflow exceptions, and malformed batch
+ * payloads, to 400 responses with an RFC 7807 problem body instead of a 500.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+	@ExceptionHandler({ IllegalArgumentException.class, ArithmeticException.class })
+	public ProblemDetail badRequest(RuntimeException e) {
+		return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+	}
+
+	@ExceptionHandler({ JsonProcessingException.class, EOFException.class })
+	public ProblemDetail malformedPayload(IOException e) {
+		return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+	}
+
+}
@@ -0,0 +1,215 @@
+package com.java.coding.api;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.java.coding.api.NumberListController.StatisticsResult;
+import com.java.coding.metrics.AlgorithmMetrics;
+import com.java.coding.numberlist.NumberListStatistics;
+import com.java.coding.numberlist.RunningStatistics;
+import com.java.coding.numberlist.TumblingWindowStatistics;
+import com.java.coding.numbers.ArmstrongNumber;
+import com.java.coding.numbers.DigitKernel;
+import com.java.coding.numbers.OddOrEven;
+import com.java.coding.numbers.PrimeNumber;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Batch endpoints: many numbers per request, read and answered as a stream.
+ *
+ * Request bodies may be a JSON array, NDJSON (one number per line) or raw
+ * little-endian binary (see {@link NumberPayloadReader}). Neither the
+ * request nor the response is ever held in memory as a whole: each number is
+ * parsed, checked and written before the next one is read.
+ *
+ * Per-number checks answer in NDJSON ({@code {"number":97,"prime":true}}
+ * per line) or, when the client accepts application/octet-stream, one byte
+ * (0 or 1) per input number in input order.
+ *
+ * Each request is recorded by AlgorithmMetrics as one call (algorithm
+ * {@code batch.<check>}, input size = numbers read), so its duration
+ * includes reading and writing the streams.
+ *
+ * ⚠️ Once streaming has started the status is already 200, so a malformed
+ *    value mid-body aborts the response instead of returning a 400.
+ */
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+	private static final JsonFactory JSON = new JsonFactory();
+
+	private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+	private record Check(String strategy, LongPredicate predicate) {
+	}
+
+	private static final Map<String, Check> CHECKS = new LinkedHashMap<>();
+
+	static {
+		CHECKS.put("prime", new Check("PrimeNumber.isPrime", PrimeNumber::isPrime));
+		CHECKS.put("palindrome", new Check("DigitKernel.isPalindrome", DigitKernel::isPalindrome));
+		CHECKS.put("armstrong", new Check("ArmstrongNumber.isArmstrongUsingPowerTable",
+				ArmstrongNumber::isArmstrongUsingPowerTable));
+		CHECKS.put("even", new Check("OddOrEven.isEvenNumber", OddOrEven::isEvenNumber));
+	}
+
+	@PostMapping(path = "/numbers/{check}", consumes = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE })
+	public ResponseEntity<StreamingResponseBody> check(@PathVariable String check,
+			@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+			@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+			HttpServletRequest request) throws IOException {
+		Check selected = CHECKS.get(check);
+		if (selected == null) {
+			throw new IllegalArgumentException("Unknown check '" + check + "', expected one of " + CHECKS.keySet());
+		}
+		LongPredicate predicate = selected.predicate();
+		InputStream in = request.getInputStream();
+		if (acceptsBinary(accept)) {
+			StreamingResponseBody body = out -> recordBatch(check, selected.strategy(), count -> {
+				OutputStream buffered = new BufferedOutputStream(out, OUTPUT_BUFFER_SIZE);
+				NumberPayloadReader.forEachLong(in, contentType, number -> {
+					count[0]++;
+					try {
+						buffered.write(predicate.test(number) ? 1 : 0);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				buffered.flush();
+			});
+			return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(body);
+		}
+		StreamingResponseBody body = out -> recordBatch(check, selected.strategy(), count -> {
+			try (JsonGenerator generator = ndjson(out)) {
+				NumberPayloadReader.forEachLong(in, contentType, number -> {
+					count[0]++;
+					try {
+						generator.writeStartObject();
+						generator.writeNumberField("number", number);
+						generator.writeBooleanField(check, predicate.test(number));
+						generator.writeEndObject();
+						generator.writeRaw('\n');
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+		});
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	/**
+	 * All numberlist aggregations of the body in one pass, in O(1) memory.
+	 */
+	@PostMapping(path = "/numberlist/statistics", consumes = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE })
+	public StatisticsResult statistics(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+			HttpServletRequest request) throws IOException {
+		NumberListStatistics statistics = new NumberListStatistics();
+		recordBatch("statistics", "NumberListStatistics", count -> {
+			NumberPayloadReader.forEachInt(request.getInputStream(), contentType, statistics);
+			count[0] = statistics.getCount();
+		});
+		return StatisticsResult.of(statistics);
+	}
+
+	/**
+	 * Running statistics per tumbling window of {@code size} values, one NDJSON
+	 * line per window, written as soon as each window completes.
+	 */
+	@PostMapping(path = "/numberlist/windows", consumes = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE })
+	public ResponseEntity<StreamingResponseBody> windows(@RequestParam int size,
+			@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, HttpServletRequest request)
+			throws IOException {
+		if (size < 1) {
+			throw new IllegalArgumentException("Window size must be positive: " + size);
+		}
+		InputStream in = request.getInputStream();
+		StreamingResponseBody body = out -> recordBatch("windows", "TumblingWindowStatistics", count -> {
+			try (JsonGenerator generator = ndjson(out)) {
+				long[] index = { 0 };
+				TumblingWindowStatistics windows = new TumblingWindowStatistics(size, window -> {
+					try {
+						writeWindow(generator, index[0]++, window);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				NumberPayloadReader.forEachInt(in, contentType, windows.andThen(value -> count[0]++));
+				windows.flush();
+			}
+		});
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	@FunctionalInterface
+	private interface BatchBody {
+
+		/**
+		 * @param count single-element holder for the number of values read
+		 */
+		void run(long[] count) throws IOException;
+	}
+
+	private static void recordBatch(String name, String strategy, BatchBody body) throws IOException {
+		AlgorithmMetrics.Sample sample = AlgorithmMetrics.start("batch." + name, strategy);
+		long[] count = { 0 };
+		Throwable failure = null;
+		try {
+			body.run(count);
+		} catch (IOException | RuntimeException | Error e) {
+			failure = e;
+			throw e;
+		} finally {
+			sample.stop(count[0], failure);
+		}
+	}
+
+	private static void writeWindow(JsonGenerator generator, long index, RunningStatistics window) throws IOException {
+		generator.writeStartObject();
+		generator.writeNumberField("window", index);
+		generator.writeNumberField("count", window.getCount());
+		generator.writeNumberField("sum", window.getSum());
+		generator.writeNumberField("min", window.getMin());
+		generator.writeNumberField("max", window.getMax());
+		generator.writeNumberField("mean", window.getMean());
+		generator.writeNumberField("variance", window.getVariance());
+		generator.writeEndObject();
+		generator.writeRaw('\n');
+	}
+
+	private static JsonGenerator ndjson(OutputStream out) throws IOException {
+		JsonGenerator generator = JSON.createGenerator(new BufferedOutputStream(out, OUTPUT_BUFFER_SIZE));
+		generator.setRootValueSeparator(null); // lines are separated explicitly
+		return generator;
+	}
+
+	private static boolean acceptsBinary(String accept) {
+		return accept != null && MediaType.parseMediaTypes(accept).stream()
+				.anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_OCTET_STREAM));
+	}
+
+}
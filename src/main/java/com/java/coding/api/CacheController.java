@@ -0,0 +1,52 @@
+package com.java.coding.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.java.coding.cache.CacheRegistry;
+import com.java.coding.cache.CacheStats;
+
+/**
+ * Hit/miss/eviction statistics of the engines' result caches, and a way to
+ * clear them (e.g. before a cold-cache load test).
+ */
+@RestController
+@RequestMapping("/api/caches")
+public class CacheController {
+
+	public record CacheResult(String name, long hits, long misses, double hitRate, long loads,
+			double averageLoadMillis, long evictions, long expirations, long size, long weight, long maximumWeight) {
+
+		static CacheResult of(String name, CacheStats stats) {
+			return new CacheResult(name, stats.hits(), stats.misses(), stats.hitRate(), stats.loads(),
+					stats.averageLoadNanos() / 1e6, stats.evictions(), stats.expirations(), stats.size(),
+					stats.weight(), stats.maximumWeight());
+		}
+	}
+
+	@GetMapping
+	public Map<String, CacheResult> caches() {
+		Map<String, CacheResult> results = new LinkedHashMap<>();
+		EngineCaches.registrations()
+				.forEach((name, registration) -> results.put(name, CacheResult.of(name, registration.cache().stats())));
+		return results;
+	}
+
+	@DeleteMapping("/{name}")
+	public ResponseEntity<Void> clear(@PathVariable String name) {
+		CacheRegistry.Registration<?, ?> registration = EngineCaches.registrations().get(name);
+		if (registration == null) {
+			return ResponseEntity.notFound().build();
+		}
+		registration.cache().invalidateAll();
+		return ResponseEntity.noContent().build();
+	}
+
+}
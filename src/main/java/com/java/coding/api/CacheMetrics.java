@@ -0,0 +1,50 @@
+package com.java.coding.api;
+
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.java.coding.cache.CacheStats;
+import com.java.coding.cache.ComputationCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the engines' result cache statistics as Micrometer meters tagged
+ * with the cache name (cache.gets with result=hit|miss, cache.evictions,
+ * cache.size, ...), read from {@link ComputationCache#stats()} on scrape.
+ */
+@Component
+@ConditionalOnProperty(name = "metrics.algorithms.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheMetrics implements MeterBinder {
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		EngineCaches.registrations().forEach((name, registration) -> {
+			ComputationCache<?, ?> cache = registration.cache();
+			counter("cache.gets", name, cache, CacheStats::hits).tag("result", "hit").register(registry);
+			counter("cache.gets", name, cache, CacheStats::misses).tag("result", "miss").register(registry);
+			counter("cache.loads", name, cache, CacheStats::loads).register(registry);
+			counter("cache.evictions", name, cache, CacheStats::evictions).register(registry);
+			counter("cache.expirations", name, cache, CacheStats::expirations).register(registry);
+			gauge("cache.size", name, cache, CacheStats::size).register(registry);
+			gauge("cache.weight", name, cache, CacheStats::weight).register(registry);
+			gauge("cache.weight.max", name, cache, CacheStats::maximumWeight).register(registry);
+		});
+	}
+
+	private static FunctionCounter.Builder<ComputationCache<?, ?>> counter(String metric, String name,
+			ComputationCache<?, ?> cache, ToDoubleFunction<CacheStats> value) {
+		return FunctionCounter.<ComputationCache<?, ?>>builder(metric, cache, c -> value.applyAsDouble(c.stats())).tag("cache", name);
+	}
+
+	private static Gauge.Builder<ComputationCache<?, ?>> gauge(String metric, String name, ComputationCache<?, ?> cache,
+			ToDoubleFunction<CacheStats> value) {
+		return Gauge.<ComputationCache<?, ?>>builder(metric, cache, c -> value.applyAsDouble(c.stats())).tag("cache", name);
+	}
+
+}
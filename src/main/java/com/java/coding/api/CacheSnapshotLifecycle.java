@@ -0,0 +1,78 @@
+package com.java.coding.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.java.coding.cache.CacheRegistry;
+import com.java.coding.cache.CacheSnapshots;
+
+/**
+ * Warm start for the engines' result caches: on startup every cache is
+ * loaded from {@code <cache.snapshot.directory>/<name>.snapshot}, on
+ * shutdown it is saved back. Disabled while the property is empty. A missing
+ * or unreadable snapshot only costs a cold cache, so failures are logged,
+ * not thrown.
+ */
+@Component
+public class CacheSnapshotLifecycle implements InitializingBean, DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(CacheSnapshotLifecycle.class);
+
+	private final Path directory;
+
+	public CacheSnapshotLifecycle(@Value("${cache.snapshot.directory:}") String directory) {
+		this.directory = directory.isBlank() ? null : Path.of(directory);
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (directory == null) {
+			return;
+		}
+		for (CacheRegistry.Registration<?, ?> registration : EngineCaches.registrations().values()) {
+			try {
+				int loaded = load(registration);
+				LOG.info("Loaded {} entries into cache '{}'", loaded, registration.name());
+			} catch (IOException | RuntimeException e) {
+				LOG.warn("Could not load snapshot of cache '{}': {}", registration.name(), e.toString());
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		if (directory == null) {
+			return;
+		}
+		for (CacheRegistry.Registration<?, ?> registration : EngineCaches.registrations().values()) {
+			try {
+				int saved = save(registration);
+				LOG.info("Saved {} entries of cache '{}'", saved, registration.name());
+			} catch (IOException | RuntimeException e) {
+				LOG.warn("Could not save snapshot of cache '{}': {}", registration.name(), e.toString());
+			}
+		}
+	}
+
+	private <K, V> int load(CacheRegistry.Registration<K, V> registration) throws IOException {
+		return CacheSnapshots.load(registration.cache(), fileFor(registration), registration.keyCodec(),
+				registration.valueCodec());
+	}
+
+	private <K, V> int save(CacheRegistry.Registration<K, V> registration) throws IOException {
+		return CacheSnapshots.save(registration.cache(), fileFor(registration), registration.keyCodec(),
+				registration.valueCodec());
+	}
+
+	private Path fileFor(CacheRegistry.Registration<?, ?> registration) {
+		return directory.resolve(registration.name() + ".snapshot");
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.java.coding.api;
+
+import java.util.Map;
+
+import com.java.coding.cache.CacheRegistry;
+import com.java.coding.numbers.FactorialEngine;
+import com.java.coding.numbers.FibonacciEngine;
+import com.java.coding.numbers.MillerRabinPrimality;
+
+/**
+ * The engines' result caches. Engines register their caches when their
+ * class is initialized, so the registry is only complete after touching
+ * each of them.
+ */
+final class EngineCaches {
+
+	private EngineCaches() {
+	}
+
+	static Map<String, CacheRegistry.Registration<?, ?>> registrations() {
+		MillerRabinPrimality.cache();
+		FactorialEngine.cache();
+		FibonacciEngine.cache();
+		return CacheRegistry.registrations();
+	}
+
+}
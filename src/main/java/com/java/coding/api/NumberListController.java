@@ -0,0 +1,123 @@
+package com.java.coding.api;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.java.coding.metrics.AlgorithmMetrics;
+import com.java.coding.numberlist.AdaptiveStrategies;
+import com.java.coding.numberlist.NumberListStatistics;
+import com.java.coding.numberlist.NumberListStrategies;
+
+/**
+ * REST endpoints over the numberlist aggregations and sorts.
+ *
+ * The request body is a JSON array of ints, bound straight to int[] (no
+ * List&lt;Integer&gt; in between). Strategies are chosen by name from
+ * {@link NumberListStrategies}; without a strategy parameter (or with
+ * {@code strategy=adaptive}) {@link AdaptiveStrategies} picks the one that
+ * has been fastest here for inputs of that size and shape. The strategy
+ * that ran is reported in the result (aggregations) or the X-Strategy
+ * header (sorts); GET /adaptive shows the current choices and timings.
+ */
+@RestController
+@RequestMapping("/api/numberlist")
+public class NumberListController {
+
+	private static final Set<String> NEEDS_VALUES = Set.of("min", "max", "average");
+
+	private static final String ADAPTIVE = "adaptive";
+
+	private static final String STRATEGY_HEADER = "X-Strategy";
+
+	public record StrategyCatalog(Map<String, Set<String>> aggregations, Map<String, Set<String>> sorts) {
+	}
+
+	public record AggregationResult(String aggregation, String strategy, int count, Number value) {
+	}
+
+	public record StatisticsResult(long count, long sum, Integer min, Integer max, double average, long even,
+			long odd, long positive, long negative, long zero) {
+
+		static StatisticsResult of(NumberListStatistics statistics) {
+			boolean empty = statistics.getCount() == 0;
+			return new StatisticsResult(statistics.getCount(), statistics.getSum(),
+					empty ? null : statistics.getMin(), empty ? null : statistics.getMax(),
+					statistics.getAverage(), statistics.getEvenCount(), statistics.getOddCount(),
+					statistics.getPositiveCount(), statistics.getNegativeCount(), statistics.getZeroCount());
+		}
+	}
+
+	@GetMapping("/strategies")
+	public StrategyCatalog strategies() {
+		Map<String, Set<String>> aggregations = new LinkedHashMap<>();
+		for (String aggregation : NumberListStrategies.aggregations()) {
+			aggregations.put(aggregation, NumberListStrategies.aggregationStrategies(aggregation).keySet());
+		}
+		Map<String, Set<String>> sorts = new LinkedHashMap<>();
+		for (String order : NumberListStrategies.sortOrders()) {
+			sorts.put(order, NumberListStrategies.sortStrategies(order).keySet());
+		}
+		return new StrategyCatalog(aggregations, sorts);
+	}
+
+	@PostMapping("/statistics")
+	public StatisticsResult statistics(@RequestBody int[] values) {
+		return StatisticsResult.of(AlgorithmMetrics.record("statistics", "NumberListStatistics", values.length,
+				() -> NumberListStatistics.of(values)));
+	}
+
+	@PostMapping("/aggregate/{aggregation}")
+	public AggregationResult aggregate(@PathVariable String aggregation,
+			@RequestParam(required = false) String strategy, @RequestBody int[] values) {
+		if (values.length == 0 && NEEDS_VALUES.contains(aggregation)) {
+			throw new IllegalArgumentException("Cannot compute " + aggregation + " of an empty list");
+		}
+		if (strategy == null || strategy.equals(ADAPTIVE)) {
+			AdaptiveStrategies.Outcome<Number> outcome = AdaptiveStrategies.aggregate(aggregation, values);
+			return new AggregationResult(aggregation, outcome.strategy(), values.length, outcome.value());
+		}
+		return new AggregationResult(aggregation, strategy, values.length,
+				NumberListStrategies.aggregate(aggregation, strategy, values));
+	}
+
+	@PostMapping("/sort/{order}")
+	public ResponseEntity<int[]> sort(@PathVariable String order, @RequestParam(required = false) String strategy,
+			@RequestBody int[] values) {
+		if (strategy == null || strategy.equals(ADAPTIVE)) {
+			AdaptiveStrategies.Outcome<int[]> outcome = AdaptiveStrategies.sort(order, values);
+			return ResponseEntity.ok().header(STRATEGY_HEADER, outcome.strategy()).body(outcome.value());
+		}
+		return ResponseEntity.ok().header(STRATEGY_HEADER, strategy)
+				.body(NumberListStrategies.sort(order, strategy, values));
+	}
+
+	/**
+	 * Current adaptive choice and per-strategy timings of every bucket seen.
+	 */
+	@GetMapping("/adaptive")
+	public List<AdaptiveStrategies.Choice> adaptiveChoices() {
+		return AdaptiveStrategies.choices();
+	}
+
+	/**
+	 * Forgets the adaptive timings so every bucket is explored again.
+	 */
+	@DeleteMapping("/adaptive")
+	public ResponseEntity<Void> resetAdaptive() {
+		AdaptiveStrategies.reset();
+		return ResponseEntity.noContent().build();
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.java.coding.api;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.java.coding.numberlist.IntFileReader;
+
+/**
+ * Reads a request body of numbers incrementally, handing each value to a
+ * consumer as soon as it is parsed. Memory stays at one buffer no matter
+ * how large the body is.
+ *
+ * Supported bodies:
+ * <ul>
+ * <li>application/json: a JSON array of numbers (or bare numbers), parsed
+ * token by token with Jackson's streaming parser</li>
+ * <li>application/x-ndjson: one number per line</li>
+ * <li>application/octet-stream: raw little-endian values, 8 bytes each for
+ * longs, 4 bytes each for ints</li>
+ * </ul>
+ */
+final class NumberPayloadReader {
+
+	private static final JsonFactory JSON = new JsonFactory();
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private NumberPayloadReader() {
+	}
+
+	/**
+	 * @return the number of values read
+	 */
+	static long forEachLong(InputStream in, MediaType type, LongConsumer consumer) throws IOException {
+		if (MediaType.APPLICATION_OCTET_STREAM.isCompatibleWith(type)) {
+			return readBinary(Channels.newChannel(in), Long.BYTES, buffer -> consumer.accept(buffer.getLong()));
+		}
+		return readJson(in, parser -> consumer.accept(parser.getLongValue()));
+	}
+
+	/**
+	 * @return the number of values read
+	 */
+	static long forEachInt(InputStream in, MediaType type, IntConsumer consumer) throws IOException {
+		if (MediaType.APPLICATION_OCTET_STREAM.isCompatibleWith(type)) {
+			return readBinary(Channels.newChannel(in), Integer.BYTES, buffer -> consumer.accept(buffer.getInt()));
+		}
+		if (MediaType.APPLICATION_NDJSON.isCompatibleWith(type)) {
+			// plain integers per line: the byte-level parser skips Jackson entirely
+			return IntFileReader.forEachInt(Channels.newChannel(in), consumer);
+		}
+		return readJson(in, parser -> consumer.accept(parser.getIntValue()));
+	}
+
+	@FunctionalInterface
+	private interface ValueReader<T> {
+		void read(T source) throws IOException;
+	}
+
+	private static long readJson(InputStream in, ValueReader<JsonParser> reader) throws IOException {
+		long count = 0;
+		try (JsonParser parser = JSON.createParser(in)) {
+			JsonToken token;
+			while ((token = parser.nextToken()) != null) {
+				if (token == JsonToken.START_ARRAY || token == JsonToken.END_ARRAY) {
+					continue;
+				}
+				if (token != JsonToken.VALUE_NUMBER_INT) {
+					throw new IllegalArgumentException("Expected an integer at " + parser.currentLocation()
+							+ " but found " + token);
+				}
+				reader.read(parser);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static long readBinary(ReadableByteChannel channel, int width, ValueReader<ByteBuffer> reader)
+			throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		long count = 0;
+		while (channel.read(buffer) != -1) {
+			buffer.flip();
+			while (buffer.remaining() >= width) {
+				reader.read(buffer);
+				count++;
+			}
+			buffer.compact(); // keep a value split across reads
+		}
+		if (buffer.position() != 0) {
+			throw new EOFException("Body ends with " + buffer.position() + " bytes, not a multiple of " + width);
+		}
+		return count;
+	}
+
+}
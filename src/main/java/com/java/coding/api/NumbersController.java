@@ -0,0 +1,129 @@
+package com.java.coding.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.java.coding.metrics.AlgorithmMetrics;
+import com.java.coding.numbers.DigitKernel;
+import com.java.coding.numbers.FactorialEngine;
+import com.java.coding.numbers.FibonacciEngine;
+import com.java.coding.numbers.MillerRabinPrimality;
+import com.java.coding.numbers.PrimeFactorizer;
+
+/**
+ * REST endpoints over the single-number engines in com.java.coding.numbers.
+ *
+ * Handlers are plain blocking code; with spring.threads.virtual.enabled
+ * every request runs on its own virtual thread, so a slow factorial does
+ * not tie up a platform thread.
+ *
+ * Factorial and Fibonacci results grow linearly in size with n, so n is
+ * capped by {@code api.numbers.max-big-index} (values are returned as
+ * decimal strings to survive JSON number precision limits).
+ *
+ * Every engine call is recorded by AlgorithmMetrics under the engine method
+ * as strategy; the input size is n for index-based engines and the bit
+ * length of the number otherwise.
+ */
+@RestController
+@RequestMapping("/api/numbers")
+public class NumbersController {
+
+	private final int maxBigIndex;
+
+	public NumbersController(@Value("${api.numbers.max-big-index:100000}") int maxBigIndex) {
+		this.maxBigIndex = maxBigIndex;
+	}
+
+	public record PrimeResult(long number, boolean prime) {
+	}
+
+	public record FactorizationResult(long number, Map<Long, Integer> factors, long divisorCount, long totient) {
+	}
+
+	public record BigValueResult(int n, int digits, String value) {
+	}
+
+	public record FibonacciModResult(long n, long modulus, long value) {
+	}
+
+	public record DigitsResult(long number, int digitCount, long digitSum, Long reversed, boolean palindrome,
+			boolean armstrong) {
+	}
+
+	@GetMapping("/{number}/prime")
+	public PrimeResult prime(@PathVariable long number) {
+		return new PrimeResult(number, AlgorithmMetrics.recordBoolean("prime", "MillerRabinPrimality.isPrime",
+				bitLength(number), () -> MillerRabinPrimality.isPrime(number)));
+	}
+
+	@GetMapping("/{number}/factors")
+	public FactorizationResult factors(@PathVariable long number) {
+		if (number < 1) {
+			throw new IllegalArgumentException("Number must be positive: " + number);
+		}
+		PrimeFactorizer.Factorization factorization = AlgorithmMetrics.record("factors", "PrimeFactorizer.factorize",
+				bitLength(number), () -> PrimeFactorizer.factorize(number));
+		Map<Long, Integer> factors = new LinkedHashMap<>();
+		long[] primes = factorization.getPrimes();
+		int[] exponents = factorization.getExponents();
+		for (int i = 0; i < primes.length; i++) {
+			factors.put(primes[i], exponents[i]);
+		}
+		return new FactorizationResult(number, factors, factorization.divisorCount(), factorization.totient());
+	}
+
+	@GetMapping("/{n}/factorial")
+	public BigValueResult factorial(@PathVariable int n) {
+		checkBigIndex(n);
+		String value = AlgorithmMetrics.record("factorial", "FactorialEngine.factorial", n,
+				() -> FactorialEngine.factorial(n)).toString();
+		return new BigValueResult(n, value.length(), value);
+	}
+
+	@GetMapping("/{n}/fibonacci")
+	public BigValueResult fibonacci(@PathVariable int n) {
+		checkBigIndex(n);
+		String value = AlgorithmMetrics.record("fibonacci", "FibonacciEngine.fibonacci", n,
+				() -> FibonacciEngine.fibonacci(n)).toString();
+		return new BigValueResult(n, value.length(), value);
+	}
+
+	@GetMapping("/{n}/fibonacci-mod")
+	public FibonacciModResult fibonacciMod(@PathVariable long n, @RequestParam long modulus) {
+		return new FibonacciModResult(n, modulus, AlgorithmMetrics.record("fibonacciMod", "FibonacciEngine.fibonacciMod",
+				bitLength(n), () -> FibonacciEngine.fibonacciMod(n, modulus)));
+	}
+
+	@GetMapping("/{number}/digits")
+	public DigitsResult digits(@PathVariable long number) {
+		return AlgorithmMetrics.record("digits", "DigitKernel", bitLength(number), () -> {
+			Long reversed;
+			try {
+				reversed = DigitKernel.reverse(number);
+			} catch (ArithmeticException e) {
+				reversed = null; // reversal does not fit in a long
+			}
+			return new DigitsResult(number, DigitKernel.digitCount(number), DigitKernel.digitSum(number), reversed,
+					DigitKernel.isPalindrome(number), DigitKernel.isArmstrong(number));
+		});
+	}
+
+	private static int bitLength(long number) {
+		return 64 - Long.numberOfLeadingZeros(Math.abs(number));
+	}
+
+	private void checkBigIndex(int n) {
+		if (n < 0 || n > maxBigIndex) {
+			throw new IllegalArgumentException("n must be in [0, " + maxBigIndex + "]: " + n);
+		}
+	}
+
+}
@@ -0,0 +1,491 @@
+package com.java.coding.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-striped, weight-bounded {@link ComputationCache}; see
+ * {@link CacheBuilder}.
+ *
+ * Keys are spread over power-of-two segments, each owning a HashMap, its
+ * own share of the maximum weight, intrusive access-order queues and (for
+ * W-TinyLFU) a frequency sketch, all guarded by one ReentrantLock. Loads run
+ * outside the lock; concurrent misses on the same key share one
+ * CompletableFuture. Expiry is checked lazily on access and by
+ * {@link #cleanUp()}. Counters are LongAdders shared by all segments.
+ */
+final class BoundedCache<K, V> implements ComputationCache<K, V> {
+
+	private static final byte WINDOW = 0;
+	private static final byte PROBATION = 1;
+	private static final byte PROTECTED = 2;
+
+	private final Segment<K, V>[] segments;
+	private final int segmentMask;
+	private final Weigher<? super K, ? super V> weigher;
+	private final EvictionPolicy policy;
+	private final long expireAfterWriteNanos;
+	private final LongSupplier ticker;
+	private final long maximumWeight;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder loadNanos = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+
+	BoundedCache(long maximumWeight, Weigher<? super K, ? super V> weigher, EvictionPolicy policy,
+			long expireAfterWriteNanos, LongSupplier ticker, int segmentCount) {
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		this.policy = policy;
+		this.expireAfterWriteNanos = expireAfterWriteNanos;
+		this.ticker = ticker;
+		@SuppressWarnings("unchecked")
+		Segment<K, V>[] segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+		this.segments = segments;
+		this.segmentMask = segmentCount - 1;
+		long share = maximumWeight / segmentCount;
+		for (int i = 0; i < segmentCount; i++) {
+			long segmentWeight = share + (i < maximumWeight % segmentCount ? 1 : 0);
+			segments[i] = new Segment<>(this, segmentWeight);
+		}
+	}
+
+	@Override
+	public V getIfPresent(K key) {
+		int hash = hash(key);
+		return segmentFor(hash).getIfPresent(key, hash, ticker.getAsLong());
+	}
+
+	@Override
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		int hash = hash(key);
+		Segment<K, V> segment = segmentFor(hash);
+		CompletableFuture<V> pending;
+		boolean owner;
+		segment.lock.lock();
+		try {
+			V value = segment.lookup(key, hash, ticker.getAsLong());
+			if (value != null) {
+				return value;
+			}
+			pending = segment.loading.get(key);
+			owner = pending == null;
+			if (owner) {
+				pending = new CompletableFuture<>();
+				segment.loading.put(key, pending);
+			}
+		} finally {
+			segment.lock.unlock();
+		}
+		if (!owner) {
+			try {
+				return pending.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException cause ? cause : e;
+			}
+		}
+		long start = System.nanoTime();
+		try {
+			V value = loader.apply(key);
+			loadNanos.add(System.nanoTime() - start);
+			loads.increment();
+			if (value != null) {
+				segment.put(key, hash, value, weigh(key, value), ticker.getAsLong());
+			}
+			pending.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			pending.completeExceptionally(e);
+			throw e;
+		} finally {
+			segment.lock.lock();
+			try {
+				segment.loading.remove(key);
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public void put(K key, V value) {
+		if (value == null) {
+			throw new NullPointerException("value");
+		}
+		int hash = hash(key);
+		segmentFor(hash).put(key, hash, value, weigh(key, value), ticker.getAsLong());
+	}
+
+	@Override
+	public void invalidate(K key) {
+		segmentFor(hash(key)).invalidate(key);
+	}
+
+	@Override
+	public void invalidateAll() {
+		for (Segment<K, V> segment : segments) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public void cleanUp() {
+		long now = ticker.getAsLong();
+		for (Segment<K, V> segment : segments) {
+			segment.expireAll(now);
+		}
+	}
+
+	@Override
+	public Map<K, V> snapshot() {
+		long now = ticker.getAsLong();
+		Map<K, V> entries = new LinkedHashMap<>();
+		for (Segment<K, V> segment : segments) {
+			segment.copyTo(entries, now);
+		}
+		return entries;
+	}
+
+	@Override
+	public CacheStats stats() {
+		long size = 0;
+		long weight = 0;
+		for (Segment<K, V> segment : segments) {
+			segment.lock.lock();
+			try {
+				size += segment.map.size();
+				weight += segment.totalWeight;
+			} finally {
+				segment.lock.unlock();
+			}
+		}
+		return new CacheStats(hits.sum(), misses.sum(), loads.sum(), loadNanos.sum(), evictions.sum(),
+				expirations.sum(), size, weight, maximumWeight);
+	}
+
+	private long weigh(K key, V value) {
+		long weight = weigher.weigh(key, value);
+		if (weight <= 0) {
+			throw new IllegalArgumentException("weight must be positive: " + weight);
+		}
+		return weight;
+	}
+
+	private Segment<K, V> segmentFor(int hash) {
+		return segments[(hash >>> 16) & segmentMask];
+	}
+
+	private static int hash(Object key) {
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private static final class Node<K, V> {
+		final K key;
+		final int hash;
+		V value;
+		long weight;
+		long writeNanos;
+		byte queue;
+		Node<K, V> prev;
+		Node<K, V> next;
+
+		Node(K key, int hash) {
+			this.key = key;
+			this.hash = hash;
+		}
+	}
+
+	/**
+	 * Intrusive doubly linked list in access order, least recent first.
+	 */
+	private static final class AccessQueue<K, V> {
+		Node<K, V> head;
+		Node<K, V> tail;
+		long weight;
+
+		void linkLast(Node<K, V> node) {
+			node.prev = tail;
+			node.next = null;
+			if (tail == null) {
+				head = node;
+			} else {
+				tail.next = node;
+			}
+			tail = node;
+			weight += node.weight;
+		}
+
+		void unlink(Node<K, V> node) {
+			if (node.prev == null) {
+				head = node.next;
+			} else {
+				node.prev.next = node.next;
+			}
+			if (node.next == null) {
+				tail = node.prev;
+			} else {
+				node.next.prev = node.prev;
+			}
+			node.prev = null;
+			node.next = null;
+			weight -= node.weight;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if (node != tail) {
+				unlink(node);
+				linkLast(node);
+			}
+		}
+
+		void clear() {
+			head = null;
+			tail = null;
+			weight = 0;
+		}
+	}
+
+	private static final class Segment<K, V> {
+		final BoundedCache<K, V> cache;
+		final ReentrantLock lock = new ReentrantLock();
+		final HashMap<K, Node<K, V>> map = new HashMap<>();
+		final Map<K, CompletableFuture<V>> loading = new HashMap<>();
+		final AccessQueue<K, V> window = new AccessQueue<>();
+		final AccessQueue<K, V> probation = new AccessQueue<>();
+		final AccessQueue<K, V> protectedQueue = new AccessQueue<>();
+		final FrequencySketch sketch;
+		final long maximumWeight;
+		final long windowMaximum;
+		final long protectedMaximum;
+		long totalWeight;
+
+		Segment(BoundedCache<K, V> cache, long maximumWeight) {
+			this.cache = cache;
+			this.maximumWeight = maximumWeight;
+			boolean tinyLfu = cache.policy == EvictionPolicy.W_TINY_LFU;
+			this.windowMaximum = tinyLfu ? Math.max(1, maximumWeight / 100) : 0;
+			this.protectedMaximum = (maximumWeight - windowMaximum) * 4 / 5;
+			this.sketch = tinyLfu ? new FrequencySketch(Math.min(maximumWeight, 1 << 16)) : null;
+		}
+
+		V getIfPresent(K key, int hash, long now) {
+			lock.lock();
+			try {
+				return lookup(key, hash, now);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Caller holds the lock. Records the access and the hit or miss.
+		 */
+		V lookup(K key, int hash, long now) {
+			if (sketch != null) {
+				sketch.increment(hash);
+			}
+			Node<K, V> node = map.get(key);
+			if (node == null) {
+				cache.misses.increment();
+				return null;
+			}
+			if (isExpired(node, now)) {
+				remove(node);
+				cache.expirations.increment();
+				cache.misses.increment();
+				return null;
+			}
+			onAccess(node);
+			cache.hits.increment();
+			return node.value;
+		}
+
+		void put(K key, int hash, V value, long weight, long now) {
+			lock.lock();
+			try {
+				Node<K, V> node = map.get(key);
+				if (weight > maximumWeight) {
+					if (node != null) {
+						remove(node);
+					}
+					cache.evictions.increment();
+					return;
+				}
+				if (node != null) {
+					AccessQueue<K, V> queue = queueOf(node);
+					queue.weight += weight - node.weight;
+					totalWeight += weight - node.weight;
+					node.value = value;
+					node.weight = weight;
+					node.writeNanos = now;
+					onAccess(node);
+				} else {
+					node = new Node<>(key, hash);
+					node.value = value;
+					node.weight = weight;
+					node.writeNanos = now;
+					map.put(key, node);
+					node.queue = sketch != null ? WINDOW : PROBATION;
+					queueOf(node).linkLast(node);
+					totalWeight += weight;
+				}
+				evict();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void invalidate(K key) {
+			lock.lock();
+			try {
+				Node<K, V> node = map.get(key);
+				if (node != null) {
+					remove(node);
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void clear() {
+			lock.lock();
+			try {
+				map.clear();
+				window.clear();
+				probation.clear();
+				protectedQueue.clear();
+				totalWeight = 0;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void expireAll(long now) {
+			if (cache.expireAfterWriteNanos == 0) {
+				return;
+			}
+			lock.lock();
+			try {
+				List<Node<K, V>> expired = new ArrayList<>();
+				for (Node<K, V> node : map.values()) {
+					if (isExpired(node, now)) {
+						expired.add(node);
+					}
+				}
+				for (Node<K, V> node : expired) {
+					remove(node);
+					cache.expirations.increment();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void copyTo(Map<K, V> entries, long now) {
+			lock.lock();
+			try {
+				for (AccessQueue<K, V> queue : List.of(probation, protectedQueue, window)) {
+					for (Node<K, V> node = queue.head; node != null; node = node.next) {
+						if (!isExpired(node, now)) {
+							entries.put(node.key, node.value);
+						}
+					}
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private boolean isExpired(Node<K, V> node, long now) {
+			return cache.expireAfterWriteNanos != 0 && now - node.writeNanos >= cache.expireAfterWriteNanos;
+		}
+
+		private AccessQueue<K, V> queueOf(Node<K, V> node) {
+			return switch (node.queue) {
+			case WINDOW -> window;
+			case PROBATION -> probation;
+			default -> protectedQueue;
+			};
+		}
+
+		/**
+		 * LRU keeps everything in one queue. W-TinyLFU promotes a probation
+		 * hit to protected, demoting protected's LRU entries back to
+		 * probation while protected is over its share.
+		 */
+		private void onAccess(Node<K, V> node) {
+			if (node.queue != PROBATION || sketch == null) {
+				queueOf(node).moveToBack(node);
+				return;
+			}
+			probation.unlink(node);
+			node.queue = PROTECTED;
+			protectedQueue.linkLast(node);
+			while (protectedQueue.weight > protectedMaximum && protectedQueue.head != node) {
+				Node<K, V> demoted = protectedQueue.head;
+				protectedQueue.unlink(demoted);
+				demoted.queue = PROBATION;
+				probation.linkLast(demoted);
+			}
+		}
+
+		private void evict() {
+			if (sketch != null) {
+				while (window.weight > windowMaximum) {
+					Node<K, V> candidate = window.head;
+					window.unlink(candidate);
+					candidate.queue = PROBATION;
+					probation.linkLast(candidate);
+					admit(candidate);
+				}
+			}
+			while (totalWeight > maximumWeight) {
+				Node<K, V> victim = probation.head != null ? probation.head
+						: protectedQueue.head != null ? protectedQueue.head : window.head;
+				evict(victim);
+			}
+		}
+
+		/**
+		 * The candidate just left the window: while the segment is over
+		 * weight it duels the probation LRU victim, and the less frequent of
+		 * the two is evicted (ties go to the incumbent).
+		 */
+		private void admit(Node<K, V> candidate) {
+			int candidateFrequency = sketch.frequency(candidate.hash);
+			while (totalWeight > maximumWeight) {
+				Node<K, V> victim = probation.head;
+				if (victim == candidate || candidateFrequency <= sketch.frequency(victim.hash)) {
+					evict(candidate);
+					return;
+				}
+				evict(victim);
+			}
+		}
+
+		private void evict(Node<K, V> node) {
+			remove(node);
+			cache.evictions.increment();
+		}
+
+		private void remove(Node<K, V> node) {
+			queueOf(node).unlink(node);
+			map.remove(node.key);
+			totalWeight -= node.weight;
+		}
+	}
+
+}
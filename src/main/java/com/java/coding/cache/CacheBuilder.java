@@ -0,0 +1,109 @@
+package com.java.coding.cache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Configures a {@link ComputationCache}.
+ *
+ * <pre>
+ * ComputationCache&lt;Integer, BigInteger&gt; cache = CacheBuilder.&lt;Integer, BigInteger&gt;newBuilder()
+ * 		.maximumWeight(32 &lt;&lt; 20, Weigher.bigIntegerBytes())
+ * 		.expireAfterWrite(Duration.ofMinutes(10))
+ * 		.build();
+ * </pre>
+ *
+ * Defaults: 10 000 entries of weight 1, {@link EvictionPolicy#W_TINY_LFU},
+ * no expiry, {@code System::nanoTime}, and one segment per ~1024 units of
+ * weight up to 4 per available processor. Caches of a few large values
+ * should set a small {@link #concurrencyLevel(int)}: an entry heavier than
+ * one segment's share is never cached.
+ */
+public final class CacheBuilder<K, V> {
+
+	private static final int MIN_SEGMENT_WEIGHT = 1024;
+
+	private long maximumWeight = 10_000;
+	private Weigher<? super K, ? super V> weigher = Weigher.singleton();
+	private EvictionPolicy policy = EvictionPolicy.W_TINY_LFU;
+	private long expireAfterWriteNanos;
+	private LongSupplier ticker = System::nanoTime;
+	private int concurrencyLevel;
+
+	private CacheBuilder() {
+	}
+
+	public static <K, V> CacheBuilder<K, V> newBuilder() {
+		return new CacheBuilder<>();
+	}
+
+	/**
+	 * Bounds the number of entries (every entry weighs 1).
+	 */
+	public CacheBuilder<K, V> maximumSize(long maximumSize) {
+		return maximumWeight(maximumSize, Weigher.singleton());
+	}
+
+	/**
+	 * Bounds the total weight of the entries; an entry heavier than a whole
+	 * segment's share is never cached.
+	 */
+	public CacheBuilder<K, V> maximumWeight(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+		if (maximumWeight <= 0) {
+			throw new IllegalArgumentException("maximumWeight must be positive: " + maximumWeight);
+		}
+		this.maximumWeight = maximumWeight;
+		this.weigher = Objects.requireNonNull(weigher, "weigher");
+		return this;
+	}
+
+	public CacheBuilder<K, V> evictionPolicy(EvictionPolicy policy) {
+		this.policy = Objects.requireNonNull(policy, "policy");
+		return this;
+	}
+
+	/**
+	 * Entries expire this long after they were last written; zero disables
+	 * expiry.
+	 */
+	public CacheBuilder<K, V> expireAfterWrite(Duration duration) {
+		if (duration.isNegative()) {
+			throw new IllegalArgumentException("duration must not be negative: " + duration);
+		}
+		this.expireAfterWriteNanos = duration.toNanos();
+		return this;
+	}
+
+	/**
+	 * Number of independently locked segments, rounded up to a power of two.
+	 * Each gets an equal share of the maximum weight.
+	 */
+	public CacheBuilder<K, V> concurrencyLevel(int concurrencyLevel) {
+		if (concurrencyLevel <= 0) {
+			throw new IllegalArgumentException("concurrencyLevel must be positive: " + concurrencyLevel);
+		}
+		this.concurrencyLevel = concurrencyLevel;
+		return this;
+	}
+
+	/**
+	 * Nanosecond time source for expiry, e.g. a fake clock in tests.
+	 */
+	public CacheBuilder<K, V> ticker(LongSupplier ticker) {
+		this.ticker = Objects.requireNonNull(ticker, "ticker");
+		return this;
+	}
+
+	public ComputationCache<K, V> build() {
+		int segments = concurrencyLevel > 0 ? concurrencyLevel
+				: (int) Math.min(4L * Runtime.getRuntime().availableProcessors(),
+						Math.max(1, maximumWeight / MIN_SEGMENT_WEIGHT));
+		int segmentCount = Math.min(1 << 16, Integer.highestOneBit(Math.max(1, segments - 1)) << 1);
+		if (segments == 1) {
+			segmentCount = 1;
+		}
+		return new BoundedCache<>(maximumWeight, weigher, policy, expireAfterWriteNanos, ticker, segmentCount);
+	}
+
+}
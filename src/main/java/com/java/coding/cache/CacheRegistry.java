@@ -0,0 +1,43 @@
+package com.java.coding.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Process-wide catalog of the named result caches, with the codecs needed to
+ * snapshot them. Engines register their cache once in a static initializer;
+ * the REST layer uses the catalog for statistics and warm starts.
+ */
+public final class CacheRegistry {
+
+	public record Registration<K, V>(String name, ComputationCache<K, V> cache, SnapshotCodec<K> keyCodec,
+			SnapshotCodec<V> valueCodec) {
+	}
+
+	private static final Map<String, Registration<?, ?>> CACHES = new ConcurrentSkipListMap<>();
+
+	private CacheRegistry() {
+	}
+
+	/**
+	 * @return the cache, for fluent use in static initializers
+	 * @throws IllegalStateException if the name is already taken
+	 */
+	public static <K, V> ComputationCache<K, V> register(String name, ComputationCache<K, V> cache,
+			SnapshotCodec<K> keyCodec, SnapshotCodec<V> valueCodec) {
+		if (CACHES.putIfAbsent(name, new Registration<>(name, cache, keyCodec, valueCodec)) != null) {
+			throw new IllegalStateException("Cache already registered: " + name);
+		}
+		return cache;
+	}
+
+	/**
+	 * Registrations sorted by name. Only caches whose owning class has been
+	 * initialized are present.
+	 */
+	public static Map<String, Registration<?, ?>> registrations() {
+		return Collections.unmodifiableMap(CACHES);
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.java.coding.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+
+/**
+ * Saves a cache's live entries to a file and replays them into a fresh cache
+ * on the next start, so expensive results survive a restart.
+ *
+ * Format: magic, entry count, then key/value pairs coldest first. The file
+ * is written next to the target and atomically renamed over it, so a crash
+ * mid-save leaves the previous snapshot intact. Loaded entries count as
+ * freshly written for expiry.
+ */
+public final class CacheSnapshots {
+
+	private static final int MAGIC = 0x43534e31; // "CSN1"
+
+	private CacheSnapshots() {
+	}
+
+	/**
+	 * @return number of entries written
+	 */
+	public static <K, V> int save(ComputationCache<K, V> cache, Path file, SnapshotCodec<K> keyCodec,
+			SnapshotCodec<V> valueCodec) throws IOException {
+		Map<K, V> entries = cache.snapshot();
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(entries.size());
+				for (Map.Entry<K, V> entry : entries.entrySet()) {
+					keyCodec.write(out, entry.getKey());
+					valueCodec.write(out, entry.getValue());
+				}
+			}
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		return entries.size();
+	}
+
+	/**
+	 * Puts every entry of the snapshot into the cache (subject to its
+	 * bounds).
+	 *
+	 * @return number of entries read, 0 if the file does not exist
+	 * @throws IOException if the file is unreadable or not a snapshot
+	 */
+	public static <K, V> int load(ComputationCache<K, V> cache, Path file, SnapshotCodec<K> keyCodec,
+			SnapshotCodec<V> valueCodec) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not a cache snapshot: " + file);
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				K key = keyCodec.read(in);
+				cache.put(key, valueCodec.read(in));
+			}
+			return count;
+		} catch (NoSuchFileException e) {
+			return 0;
+		}
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.java.coding.cache;
+
+/**
+ * Point-in-time counters of a {@link ComputationCache}.
+ *
+ * @param hits         lookups that found a live entry
+ * @param misses       lookups that found nothing (or only an expired entry)
+ * @param loads        values computed through {@code get(key, loader)}
+ * @param loadNanos    total time spent in loaders
+ * @param evictions    entries removed to stay within the maximum weight
+ * @param expirations  entries removed because their time to live passed
+ * @param size         current number of entries
+ * @param weight       current total weight
+ * @param maximumWeight configured weight bound
+ */
+public record CacheStats(long hits, long misses, long loads, long loadNanos, long evictions, long expirations,
+		long size, long weight, long maximumWeight) {
+
+	public long requests() {
+		return hits + misses;
+	}
+
+	/**
+	 * @return hits / requests, or 1 if there were no requests
+	 */
+	public double hitRate() {
+		long requests = requests();
+		return requests == 0 ? 1.0d : (double) hits / requests;
+	}
+
+	/**
+	 * @return mean loader time in nanoseconds, or 0 if nothing was loaded
+	 */
+	public double averageLoadNanos() {
+		return loads == 0 ? 0.0d : (double) loadNanos / loads;
+	}
+
+}
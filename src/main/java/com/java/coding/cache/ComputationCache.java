@@ -0,0 +1,48 @@
+package com.java.coding.cache;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache for the results of expensive number
+ * computations (primality, factorials, Fibonacci numbers).
+ *
+ * Build one with {@link CacheBuilder}. Entries are evicted by weight (LRU
+ * or W-TinyLFU, see {@link EvictionPolicy}) and optionally expire a fixed
+ * time after they were written. Null values are never cached.
+ */
+public interface ComputationCache<K, V> {
+
+	/**
+	 * The cached value, or null on a miss (counted in {@link #stats()}).
+	 */
+	V getIfPresent(K key);
+
+	/**
+	 * The cached value, computing and caching it with loader on a miss.
+	 * Concurrent callers missing on the same key wait for a single load
+	 * instead of computing it again. The loader must not call back into this
+	 * cache for the same key.
+	 */
+	V get(K key, Function<? super K, ? extends V> loader);
+
+	void put(K key, V value);
+
+	void invalidate(K key);
+
+	void invalidateAll();
+
+	/**
+	 * Removes expired entries now instead of lazily on access.
+	 */
+	void cleanUp();
+
+	/**
+	 * Live (unexpired) entries, coldest first, so replaying them with
+	 * {@link #put(Object, Object)} restores the recency order.
+	 */
+	Map<K, V> snapshot();
+
+	CacheStats stats();
+
+}
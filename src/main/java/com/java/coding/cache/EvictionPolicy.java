@@ -0,0 +1,23 @@
+package com.java.coding.cache;
+
+/**
+ * How a full {@link ComputationCache} chooses what to drop.
+ */
+public enum EvictionPolicy {
+
+	/**
+	 * Least recently used. Cheap and predictable, but a single scan of
+	 * one-off keys flushes the whole cache.
+	 */
+	LRU,
+
+	/**
+	 * Window TinyLFU: new entries land in a small LRU window (1% of the
+	 * weight); when they leave it they must beat the main region's LRU
+	 * victim on estimated access frequency (a 4-bit count-min sketch with
+	 * periodic halving) to be admitted. The main region is a segmented LRU
+	 * (probation / protected). Keeps hot keys through scans of one-off keys.
+	 */
+	W_TINY_LFU
+
+}
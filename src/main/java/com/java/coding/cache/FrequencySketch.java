@@ -0,0 +1,71 @@
+package com.java.coding.cache;
+
+/**
+ * Count-min sketch of 4-bit counters estimating how often each key hash was
+ * seen recently, for W-TinyLFU admission.
+ *
+ * Sixteen counters are packed per long; each hash maps to one counter in
+ * each of four rows, and the estimate is the minimum of the four. After
+ * {@code 10 * counters / 16} increments every counter is halved, so old
+ * popularity fades. Not thread-safe; each cache segment owns one under its
+ * lock.
+ */
+final class FrequencySketch {
+
+	private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L };
+
+	private static final long RESET_MASK = 0x7777777777777777L;
+
+	private final long[] table;
+	private final int mask;
+	private final int sampleSize;
+	private int additions;
+
+	FrequencySketch(long expectedEntries) {
+		int length = (int) Math.min(1 << 20, Math.max(16, Long.highestOneBit(Math.max(1, expectedEntries) - 1) << 1));
+		table = new long[length];
+		mask = length - 1;
+		sampleSize = 10 * length;
+	}
+
+	int frequency(int hash) {
+		int frequency = 15;
+		for (int row = 0; row < 4; row++) {
+			long h = rehash(hash, row);
+			int index = (int) (h >>> 32) & mask;
+			int shift = (int) (h & 15) << 2;
+			frequency = Math.min(frequency, (int) ((table[index] >>> shift) & 15));
+		}
+		return frequency;
+	}
+
+	void increment(int hash) {
+		boolean added = false;
+		for (int row = 0; row < 4; row++) {
+			long h = rehash(hash, row);
+			int index = (int) (h >>> 32) & mask;
+			int shift = (int) (h & 15) << 2;
+			if (((table[index] >>> shift) & 15) < 15) {
+				table[index] += 1L << shift;
+				added = true;
+			}
+		}
+		if (added && ++additions >= sampleSize) {
+			reset();
+		}
+	}
+
+	private void reset() {
+		for (int i = 0; i < table.length; i++) {
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		additions /= 2;
+	}
+
+	private static long rehash(int hash, int row) {
+		long h = (hash + SEEDS[row]) * SEEDS[(row + 1) & 3];
+		return h ^ (h >>> 29);
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.java.coding.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Binary encoding of cache keys or values for {@link CacheSnapshots}.
+ */
+public interface SnapshotCodec<T> {
+
+	SnapshotCodec<Long> LONG = new SnapshotCodec<>() {
+		@Override
+		public void write(DataOutput out, Long value) throws IOException {
+			out.writeLong(value);
+		}
+
+		@Override
+		public Long read(DataInput in) throws IOException {
+			return in.readLong();
+		}
+	};
+
+	SnapshotCodec<Integer> INTEGER = new SnapshotCodec<>() {
+		@Override
+		public void write(DataOutput out, Integer value) throws IOException {
+			out.writeInt(value);
+		}
+
+		@Override
+		public Integer read(DataInput in) throws IOException {
+			return in.readInt();
+		}
+	};
+
+	SnapshotCodec<Boolean> BOOLEAN = new SnapshotCodec<>() {
+		@Override
+		public void write(DataOutput out, Boolean value) throws IOException {
+			out.writeBoolean(value);
+		}
+
+		@Override
+		public Boolean read(DataInput in) throws IOException {
+			return in.readBoolean();
+		}
+	};
+
+	/**
+	 * Length-prefixed two's-complement bytes.
+	 */
+	SnapshotCodec<BigInteger> BIG_INTEGER = new SnapshotCodec<>() {
+		@Override
+		public void write(DataOutput out, BigInteger value) throws IOException {
+			byte[] bytes = value.toByteArray();
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+
+		@Override
+		public BigInteger read(DataInput in) throws IOException {
+			int length = in.readInt();
+			if (length <= 0) {
+				throw new IOException("Corrupt BigInteger length: " + length);
+			}
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			return new BigInteger(bytes);
+		}
+	};
+
+	void write(DataOutput out, T value) throws IOException;
+
+	T read(DataInput in) throws IOException;
+
+}
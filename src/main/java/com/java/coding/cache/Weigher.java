@@ -0,0 +1,31 @@
+package com.java.coding.cache;
+
+import java.math.BigInteger;
+
+/**
+ * Weight of a cache entry, in whatever unit the cache's maximum weight is
+ * expressed in. Must be positive and must not change while the entry is
+ * cached.
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+	long weigh(K key, V value);
+
+	/**
+	 * Every entry weighs 1, so the maximum weight is an entry count.
+	 */
+	static <K, V> Weigher<K, V> singleton() {
+		return (key, value) -> 1;
+	}
+
+	/**
+	 * Approximate retained bytes of a BigInteger value: its magnitude
+	 * ({@code bitLength / 8}) plus a fixed per-entry overhead for the
+	 * BigInteger, its int[] header and the cache node.
+	 */
+	static <K> Weigher<K, BigInteger> bigIntegerBytes() {
+		return (key, value) -> 96 + (value.bitLength() + 7) / 8;
+	}
+
+}
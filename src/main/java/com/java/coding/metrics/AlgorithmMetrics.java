@@ -0,0 +1,105 @@
+package com.java.coding.metrics;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Static entry point for timing algorithm calls, tagged by algorithm and
+ * strategy name (e.g. {@code max / findMaxUsingMapToInt}).
+ *
+ * The algorithm classes stay plain Java: this facade only holds an optional
+ * {@link Recorder}, installed by the Spring application (see
+ * {@link MicrometerAlgorithmRecorder}). Without one, {@link #record} is a
+ * volatile read and a direct call, so mains, tests and benchmarks pay
+ * nothing measurable.
+ */
+public final class AlgorithmMetrics {
+
+	/**
+	 * An in-flight measurement; {@link #stop(long, Throwable)} it exactly once.
+	 */
+	public interface Sample {
+
+		/**
+		 * @param inputSize elements (or bits / index, see the caller) processed
+		 * @param failure   exception thrown by the call, or null
+		 */
+		void stop(long inputSize, Throwable failure);
+	}
+
+	/**
+	 * Where samples go, e.g. Micrometer.
+	 */
+	public interface Recorder {
+
+		Sample start(String algorithm, String strategy);
+	}
+
+	private static final Sample NOOP = (inputSize, failure) -> {
+	};
+
+	private static volatile Recorder recorder;
+
+	private AlgorithmMetrics() {
+	}
+
+	public static void install(Recorder recorder) {
+		AlgorithmMetrics.recorder = recorder;
+	}
+
+	public static void uninstall() {
+		recorder = null;
+	}
+
+	public static boolean isEnabled() {
+		return recorder != null;
+	}
+
+	/**
+	 * Starts a measurement for calls whose input size is only known at the
+	 * end (e.g. streamed batches); a shared no-op when disabled.
+	 */
+	public static Sample start(String algorithm, String strategy) {
+		Recorder current = recorder;
+		return current == null ? NOOP : current.start(algorithm, strategy);
+	}
+
+	/**
+	 * Runs call, recording its latency, input size, allocation and failure.
+	 */
+	public static <T> T record(String algorithm, String strategy, long inputSize, Supplier<T> call) {
+		Recorder current = recorder;
+		if (current == null) {
+			return call.get();
+		}
+		Sample sample = current.start(algorithm, strategy);
+		try {
+			T result = call.get();
+			sample.stop(inputSize, null);
+			return result;
+		} catch (RuntimeException | Error e) {
+			sample.stop(inputSize, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * {@link #record(String, String, long, Supplier)} without boxing the result.
+	 */
+	public static boolean recordBoolean(String algorithm, String strategy, long inputSize, BooleanSupplier call) {
+		Recorder current = recorder;
+		if (current == null) {
+			return call.getAsBoolean();
+		}
+		Sample sample = current.start(algorithm, strategy);
+		try {
+			boolean result = call.getAsBoolean();
+			sample.stop(inputSize, null);
+			return result;
+		} catch (RuntimeException | Error e) {
+			sample.stop(inputSize, e);
+			throw e;
+		}
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.java.coding.metrics;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Installs the Micrometer recorder into {@link AlgorithmMetrics} while the
+ * application runs, unless {@code metrics.algorithms.enabled=false}. The
+ * meters are exported by Actuator, e.g. at /actuator/prometheus.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "metrics.algorithms.enabled", havingValue = "true", matchIfMissing = true)
+public class AlgorithmMetricsConfiguration implements InitializingBean, DisposableBean {
+
+	private final MeterRegistry registry;
+	private final boolean histogram;
+
+	public AlgorithmMetricsConfiguration(MeterRegistry registry,
+			@Value("${metrics.algorithms.histogram:true}") boolean histogram) {
+		this.registry = registry;
+		this.histogram = histogram;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		AlgorithmMetrics.install(new MicrometerAlgorithmRecorder(registry, histogram));
+	}
+
+	@Override
+	public void destroy() {
+		AlgorithmMetrics.uninstall();
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.java.coding.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records {@link AlgorithmMetrics} samples as Micrometer meters, all tagged
+ * with {@code algorithm} and {@code strategy}:
+ *
+ * - algorithm.duration (Timer, with a percentile histogram)
+ * - algorithm.input.size (DistributionSummary)
+ * - algorithm.allocated (DistributionSummary, bytes allocated by the calling
+ *   thread during the call)
+ * - algorithm.errors (Counter, also tagged with the exception class)
+ *
+ * Meters are created once per algorithm/strategy pair and looked up in a
+ * ConcurrentHashMap afterwards.
+ *
+ * ⚠️ Allocation comes from com.sun.management.ThreadMXBean, which reports -1
+ *    for virtual threads (and only sees the calling thread, not ForkJoin
+ *    workers), so with spring.threads.virtual.enabled REST calls record
+ *    latency and size but no allocation.
+ */
+public final class MicrometerAlgorithmRecorder implements AlgorithmMetrics.Recorder {
+
+	private record Key(String algorithm, String strategy) {
+	}
+
+	private record Meters(Timer duration, DistributionSummary inputSize, DistributionSummary allocated) {
+	}
+
+	private final MeterRegistry registry;
+	private final boolean histogram;
+	private final com.sun.management.ThreadMXBean threads;
+	private final ConcurrentHashMap<Key, Meters> meters = new ConcurrentHashMap<>();
+
+	public MicrometerAlgorithmRecorder(MeterRegistry registry, boolean histogram) {
+		this.registry = registry;
+		this.histogram = histogram;
+		this.threads = allocationCounter();
+	}
+
+	@Override
+	public AlgorithmMetrics.Sample start(String algorithm, String strategy) {
+		Meters target = meters.computeIfAbsent(new Key(algorithm, strategy), this::register);
+		long startBytes = allocatedBytes();
+		long startNanos = System.nanoTime();
+		return (inputSize, failure) -> {
+			target.duration().record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+			target.inputSize().record(inputSize);
+			long endBytes = startBytes < 0 ? -1 : allocatedBytes();
+			if (endBytes >= 0) {
+				target.allocated().record(endBytes - startBytes);
+			}
+			if (failure != null) {
+				Counter.builder("algorithm.errors")
+						.tag("algorithm", algorithm)
+						.tag("strategy", strategy)
+						.tag("exception", failure.getClass().getSimpleName())
+						.register(registry)
+						.increment();
+			}
+		};
+	}
+
+	private Meters register(Key key) {
+		Timer duration = Timer.builder("algorithm.duration")
+				.description("Latency of one algorithm call")
+				.tag("algorithm", key.algorithm())
+				.tag("strategy", key.strategy())
+				.publishPercentileHistogram(histogram)
+				.register(registry);
+		DistributionSummary inputSize = DistributionSummary.builder("algorithm.input.size")
+				.description("Input size of one algorithm call")
+				.tag("algorithm", key.algorithm())
+				.tag("strategy", key.strategy())
+				.register(registry);
+		DistributionSummary allocated = DistributionSummary.builder("algorithm.allocated")
+				.description("Bytes allocated by the calling thread during one algorithm call")
+				.baseUnit("bytes")
+				.tag("algorithm", key.algorithm())
+				.tag("strategy", key.strategy())
+				.register(registry);
+		return new Meters(duration, inputSize, allocated);
+	}
+
+	// -1 when unsupported or on a virtual thread
+	private long allocatedBytes() {
+		return threads == null ? -1 : threads.getCurrentThreadAllocatedBytes();
+	}
+
+	private static com.sun.management.ThreadMXBean allocationCounter() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+				&& threads.isThreadAllocatedMemorySupported()) {
+			threads.setThreadAllocatedMemoryEnabled(true);
+			return threads;
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.java.coding.numberlist;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Online choice among interchangeable strategies, kept separately per input
+ * bucket (see {@link AdaptiveStrategies} for the buckets).
+ *
+ * Per bucket every candidate is first run {@code minSamples} times
+ * (round-robin, fewest samples first); after that the candidate with the
+ * lowest moving average of nanoseconds per element is exploited. Every
+ * {@code explorationInterval}-th call of a bucket runs the next candidate in
+ * round-robin order instead, so a strategy that got faster (JIT, other
+ * hardware, changed data) can win again.
+ *
+ * ✅ The first run of each candidate per bucket only warms it up; it is not
+ *    averaged, so the interpreter/C1 run does not count against it
+ * ✅ Thread-safe: bucket state is updated under the bucket's monitor, the
+ *    strategies themselves run unlocked
+ * ⚠️ Exploration runs slow candidates on live inputs; their cost is bounded
+ *    by minSamples per bucket plus one call per explorationInterval
+ */
+final class AdaptiveSelector {
+
+	private static final double SMOOTHING = 0.3;
+
+	private final List<String> candidates;
+	private final int minSamples;
+	private final int explorationInterval;
+	private final ConcurrentHashMap<AdaptiveStrategies.Bucket, BucketState> buckets = new ConcurrentHashMap<>();
+
+	AdaptiveSelector(List<String> candidates, int minSamples, int explorationInterval) {
+		if (candidates.isEmpty()) {
+			throw new IllegalArgumentException("No candidate strategies");
+		}
+		this.candidates = List.copyOf(candidates);
+		this.minSamples = minSamples;
+		this.explorationInterval = explorationInterval;
+	}
+
+	List<String> candidates() {
+		return candidates;
+	}
+
+	/**
+	 * The strategy to run next for an input in this bucket.
+	 */
+	String select(AdaptiveStrategies.Bucket bucket) {
+		return buckets.computeIfAbsent(bucket, key -> new BucketState()).select();
+	}
+
+	/**
+	 * Reports how long the selected strategy took on an input of size
+	 * elements.
+	 */
+	void record(AdaptiveStrategies.Bucket bucket, String strategy, long nanos, int size) {
+		buckets.computeIfAbsent(bucket, key -> new BucketState()).record(strategy, (double) nanos / Math.max(1, size));
+	}
+
+	/**
+	 * @return one choice per bucket, by size bucket then shape
+	 */
+	List<AdaptiveStrategies.Choice> choices() {
+		return buckets.entrySet().stream()
+				.map(entry -> entry.getValue().choice(entry.getKey()))
+				.sorted(Comparator.comparingInt((AdaptiveStrategies.Choice choice) -> choice.bucket().sizeBucket())
+						.thenComparing(choice -> choice.bucket().shape()))
+				.toList();
+	}
+
+	void reset() {
+		buckets.clear();
+	}
+
+	private final class BucketState {
+
+		private final long[] samples = new long[candidates.size()];
+		private final double[] nanosPerElement = new double[candidates.size()];
+		private long calls;
+		private int explorationCursor;
+
+		BucketState() {
+			Arrays.fill(nanosPerElement, Double.NaN);
+		}
+
+		synchronized String select() {
+			calls++;
+			int fewest = 0;
+			for (int i = 1; i < samples.length; i++) {
+				if (samples[i] < samples[fewest]) {
+					fewest = i;
+				}
+			}
+			if (samples[fewest] < minSamples) {
+				samples[fewest]++; // reserve the run so concurrent callers spread out
+				return candidates.get(fewest);
+			}
+			if (calls % explorationInterval == 0) {
+				int next = explorationCursor++ % candidates.size();
+				samples[next]++;
+				return candidates.get(next);
+			}
+			int best = best();
+			samples[best]++;
+			return candidates.get(best);
+		}
+
+		synchronized void record(String strategy, double nanos) {
+			int index = candidates.indexOf(strategy);
+			long runs = samples[index];
+			if (runs <= 1) {
+				return; // warm-up run
+			}
+			nanosPerElement[index] = Double.isNaN(nanosPerElement[index]) ? nanos
+					: nanosPerElement[index] + SMOOTHING * (nanos - nanosPerElement[index]);
+		}
+
+		synchronized AdaptiveStrategies.Choice choice(AdaptiveStrategies.Bucket bucket) {
+			Map<String, AdaptiveStrategies.Timing> timings = new LinkedHashMap<>();
+			for (int i = 0; i < samples.length; i++) {
+				Double nanos = Double.isNaN(nanosPerElement[i]) ? null : nanosPerElement[i];
+				timings.put(candidates.get(i), new AdaptiveStrategies.Timing(samples[i], nanos));
+			}
+			return new AdaptiveStrategies.Choice(bucket, candidates.get(best()), calls,
+					Collections.unmodifiableMap(timings));
+		}
+
+		// Lowest average among the measured candidates (unmeasured ones count as infinitely slow)
+		private int best() {
+			int best = 0;
+			for (int i = 1; i < samples.length; i++) {
+				if (rank(i) < rank(best)) {
+					best = i;
+				}
+			}
+			return best;
+		}
+
+		private double rank(int index) {
+			return Double.isNaN(nanosPerElement[index]) ? Double.MAX_VALUE : nanosPerElement[index];
+		}
+	}
+
+}
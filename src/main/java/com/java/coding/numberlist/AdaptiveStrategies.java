@@ -0,0 +1,227 @@
+package com.java.coding.numberlist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.Set;
+
+/**
+ * Adaptive dispatcher over {@link NumberListStrategies}: instead of
+ * hard-coding one strategy per operation, callers ask for an operation and
+ * the dispatcher picks the strategy that has been fastest on this machine
+ * for inputs like this one.
+ *
+ * Inputs are bucketed by size (powers of 4: [0, 4), [4, 16), ... ) and by
+ * shape, sampled from up to 32 adjacent pairs: ascending, descending or
+ * unsorted. Each (operation, bucket) converges independently, see
+ * {@link AdaptiveSelector} for the explore / exploit / re-explore policy.
+ *
+ * Only strategies that return the same result for every input compete, so
+ * the answer never depends on which one was picked. The sorted-list min/max
+ * (O(n log n)) and the Welford average (rounds differently from a long sum)
+ * stay callable by name but are never explored.
+ *
+ * ✅ No per-host tuning: the choices come from live timings
+ * ✅ Shape detection is O(1) per call (a fixed sample, not a scan)
+ * ✅ {@link #choices()} exposes the current pick and timings of every bucket
+ */
+public final class AdaptiveStrategies {
+
+	/**
+	 * Data shape of a bucket.
+	 */
+	public enum Shape {
+		ASCENDING, DESCENDING, UNSORTED
+	}
+
+	/**
+	 * @param operation  aggregation name or sort order
+	 * @param sizeBucket k for input sizes in [4^k, 4^(k+1)), 0 also covering 0
+	 */
+	public record Bucket(String operation, int sizeBucket, Shape shape) {
+
+		public long minSize() {
+			return sizeBucket == 0 ? 0 : 1L << (2 * sizeBucket);
+		}
+
+		public long maxSize() {
+			return (1L << (2 * sizeBucket + 2)) - 1;
+		}
+	}
+
+	/**
+	 * Result of an adaptive call and the strategy that produced it.
+	 */
+	public record Outcome<R>(String strategy, R value) {
+	}
+
+	/**
+	 * Moving-average timing of one strategy in one bucket; nanosPerElement is
+	 * null until the strategy has run after its warm-up.
+	 */
+	public record Timing(long samples, Double nanosPerElement) {
+	}
+
+	/**
+	 * Current state of one bucket: the exploited strategy and every
+	 * candidate's timing.
+	 */
+	public record Choice(Bucket bucket, String strategy, long calls, Map<String, Timing> timings) {
+	}
+
+	private static final int MIN_SAMPLES = 3;
+	private static final int EXPLORATION_INTERVAL = 256;
+	private static final int SHAPE_SAMPLES = 32;
+
+	private static final Map<String, AdaptiveSelector> AGGREGATIONS = new LinkedHashMap<>();
+	private static final Map<String, AdaptiveSelector> SORTS = new LinkedHashMap<>();
+
+	private static final Map<String, Set<String>> EXCLUDED_AGGREGATION_STRATEGIES = Map.of(
+			"min", Set.of("findMinUsingSorted"),
+			"max", Set.of("findMaxUsingSorted"),
+			"average", Set.of("averageUsingRunningStatistics"));
+
+	static {
+		for (String aggregation : NumberListStrategies.aggregations()) {
+			Set<String> excluded = EXCLUDED_AGGREGATION_STRATEGIES.getOrDefault(aggregation, Set.of());
+			AGGREGATIONS.put(aggregation, selector(NumberListStrategies.aggregationStrategies(aggregation).keySet()
+					.stream()
+					.filter(strategy -> !excluded.contains(strategy))
+					.toList()));
+		}
+		for (String order : NumberListStrategies.sortOrders()) {
+			SORTS.put(order, selector(NumberListStrategies.sortStrategies(order).keySet()));
+		}
+	}
+
+	private AdaptiveStrategies() {
+	}
+
+	/**
+	 * Runs the aggregation with the currently preferred strategy for this
+	 * input's bucket.
+	 *
+	 * @throws IllegalArgumentException for an unknown aggregation
+	 */
+	public static Outcome<Number> aggregate(String aggregation, int[] values) {
+		NumberListStrategies.aggregationStrategies(aggregation);
+		AdaptiveSelector selector = AGGREGATIONS.get(aggregation);
+		Bucket bucket = bucketOf(aggregation, values);
+		String strategy = selector.select(bucket);
+		long start = System.nanoTime();
+		Number value = NumberListStrategies.aggregate(aggregation, strategy, values);
+		selector.record(bucket, strategy, System.nanoTime() - start, values.length);
+		return new Outcome<>(strategy, value);
+	}
+
+	/**
+	 * Sorts a copy of values with the currently preferred strategy for this
+	 * input's bucket.
+	 *
+	 * @throws IllegalArgumentException for an unknown order
+	 */
+	public static Outcome<int[]> sort(String order, int[] values) {
+		NumberListStrategies.sortStrategies(order);
+		AdaptiveSelector selector = SORTS.get(order);
+		Bucket bucket = bucketOf(order, values);
+		String strategy = selector.select(bucket);
+		long start = System.nanoTime();
+		int[] sorted = NumberListStrategies.sort(order, strategy, values);
+		selector.record(bucket, strategy, System.nanoTime() - start, values.length);
+		return new Outcome<>(strategy, sorted);
+	}
+
+	/**
+	 * Current choice and per-strategy timings of every bucket seen so far,
+	 * aggregations first, then sorts.
+	 */
+	public static List<Choice> choices() {
+		List<Choice> choices = new ArrayList<>();
+		AGGREGATIONS.values().forEach(selector -> choices.addAll(selector.choices()));
+		SORTS.values().forEach(selector -> choices.addAll(selector.choices()));
+		return choices;
+	}
+
+	/**
+	 * Forgets all timings, e.g. after a deployment to different hardware.
+	 */
+	public static void reset() {
+		AGGREGATIONS.values().forEach(AdaptiveSelector::reset);
+		SORTS.values().forEach(AdaptiveSelector::reset);
+	}
+
+	/**
+	 * Strategies the aggregation's selector explores, in registration order.
+	 */
+	static List<String> aggregationCandidates(String aggregation) {
+		NumberListStrategies.aggregationStrategies(aggregation);
+		return AGGREGATIONS.get(aggregation).candidates();
+	}
+
+	/**
+	 * Strategies the sort order's selector explores, in registration order.
+	 */
+	static List<String> sortCandidates(String order) {
+		NumberListStrategies.sortStrategies(order);
+		return SORTS.get(order).candidates();
+	}
+
+	static Bucket bucketOf(String operation, int[] values) {
+		int sizeBucket = (31 - Integer.numberOfLeadingZeros(values.length | 1)) / 2;
+		return new Bucket(operation, sizeBucket, shapeOf(values));
+	}
+
+	/**
+	 * Classifies the input from up to 32 evenly spaced adjacent pairs; equal
+	 * pairs count for either direction.
+	 */
+	static Shape shapeOf(int[] values) {
+		int pairs = values.length - 1;
+		if (pairs < 1) {
+			return Shape.ASCENDING;
+		}
+		int samples = Math.min(SHAPE_SAMPLES, pairs);
+		boolean ascending = true;
+		boolean descending = true;
+		for (int i = 0; i < samples && (ascending || descending); i++) {
+			int index = (int) ((long) i * pairs / samples);
+			int left = values[index];
+			int right = values[index + 1];
+			ascending &= left <= right;
+			descending &= left >= right;
+		}
+		return ascending ? Shape.ASCENDING : descending ? Shape.DESCENDING : Shape.UNSORTED;
+	}
+
+	private static AdaptiveSelector selector(Collection<String> strategies) {
+		return new AdaptiveSelector(List.copyOf(strategies), MIN_SAMPLES, EXPLORATION_INTERVAL);
+	}
+
+	public static void main(String[] args) {
+		try (Scanner scanner = new Scanner(System.in)) {
+			System.out.print("Enter list size: ");
+			int size = scanner.nextInt();
+			System.out.print("Enter number of rounds: ");
+			int rounds = scanner.nextInt();
+
+			Random random = new Random(42);
+			int[] values = random.ints(size, -1_000_000, 1_000_000).toArray();
+			for (int round = 0; round < rounds; round++) {
+				for (String aggregation : NumberListStrategies.aggregations()) {
+					aggregate(aggregation, values);
+				}
+				sort("ascending", values);
+			}
+			for (Choice choice : choices()) {
+				Bucket bucket = choice.bucket();
+				System.out.printf("%-14s n=[%d, %d] %-9s -> %s%n", bucket.operation(), bucket.minSize(),
+						bucket.maxSize(), bucket.shape(), choice.strategy());
+			}
+		}
+	}
+
+}
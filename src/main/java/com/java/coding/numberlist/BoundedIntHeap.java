@@ -0,0 +1,115 @@
+package com.java.coding.numberlist;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Keeps the K largest (or K smallest) ints seen so far in a primitive heap.
+ *
+ * Works over unbounded input in O(K) memory: feed values one by one (it is an
+ * {@link IntConsumer}, so {@code IntFileReader.forEachInt(path, heap)} works)
+ * and read the current top-K at any time.
+ *
+ * ✅ O(log K) per value, O(1) when the value cannot enter the top-K
+ * ✅ No boxing (unlike PriorityQueue&lt;Integer&gt;)
+ */
+public final class BoundedIntHeap implements IntConsumer {
+
+	private final int[] heap;
+	private final boolean keepLargest;
+	private int size;
+
+	private BoundedIntHeap(int k, boolean keepLargest) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		}
+		this.heap = new int[k];
+		this.keepLargest = keepLargest;
+	}
+
+	/**
+	 * Heap that retains the K largest values (root = smallest of them).
+	 */
+	public static BoundedIntHeap largest(int k) {
+		return new BoundedIntHeap(k, true);
+	}
+
+	/**
+	 * Heap that retains the K smallest values (root = largest of them).
+	 */
+	public static BoundedIntHeap smallest(int k) {
+		return new BoundedIntHeap(k, false);
+	}
+
+	@Override
+	public void accept(int value) {
+		if (size < heap.length) {
+			heap[size] = value;
+			siftUp(size++);
+		} else if (size > 0 && before(heap[0], value)) {
+			heap[0] = value;
+			siftDown(0);
+		}
+	}
+
+	public void acceptAll(int[] values) {
+		for (int value : values) {
+			accept(value);
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * The retained values, best first: descending for {@link #largest(int)},
+	 * ascending for {@link #smallest(int)}. The heap itself is left unchanged.
+	 */
+	public int[] toSortedArray() {
+		int[] copy = new int[size];
+		System.arraycopy(heap, 0, copy, 0, size);
+		if (keepLargest) {
+			IntSorter.sortDescending(copy);
+		} else {
+			IntSorter.sort(copy);
+		}
+		return copy;
+	}
+
+	// true when a belongs closer to the root than b
+	private boolean before(int a, int b) {
+		return keepLargest ? a < b : a > b;
+	}
+
+	private void siftUp(int index) {
+		int value = heap[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!before(value, heap[parent])) {
+				break;
+			}
+			heap[index] = heap[parent];
+			index = parent;
+		}
+		heap[index] = value;
+	}
+
+	private void siftDown(int index) {
+		int value = heap[index];
+		int half = size >>> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			int right = child + 1;
+			if (right < size && before(heap[right], heap[child])) {
+				child = right;
+			}
+			if (!before(heap[child], value)) {
+				break;
+			}
+			heap[index] = heap[child];
+			index = child;
+		}
+		heap[index] = value;
+	}
+
+}
@@ -0,0 +1,142 @@
+package com.java.coding.numberlist;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntConsumer;
+
+/**
+ * {@link RunningStatistics} that many threads can feed at once.
+ *
+ * Writers never share an accumulator: each value goes into one of a fixed
+ * set of padded cells, picked by thread id. A cell is claimed with a single
+ * CAS that makes its version odd, updated with plain writes, and released
+ * by making the version even again. A writer that finds its cell busy moves
+ * on to the next one instead of waiting, so no thread ever blocks.
+ *
+ * Readers merge on demand: {@link #snapshot()} copies each cell under a
+ * seqlock-style version check (retrying if a writer was mid-update) and
+ * combines the copies. Snapshots are consistent per cell; values accepted
+ * while a snapshot runs may or may not be included.
+ *
+ * ✅ No locks and no allocation on the write path
+ * ✅ Works with virtual threads (cells are not per-thread)
+ * ⚠️ Reads cost O(cells), so read less often than you write
+ */
+public final class ConcurrentRunningStatistics implements IntConsumer {
+
+	private final Cell[] cells;
+	private final int mask;
+
+	public ConcurrentRunningStatistics() {
+		this(Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	/**
+	 * @param stripes number of cells; rounded up to a power of two
+	 */
+	public ConcurrentRunningStatistics(int stripes) {
+		if (stripes < 1) {
+			throw new IllegalArgumentException("Stripes must be positive: " + stripes);
+		}
+		int size = Integer.highestOneBit(stripes - 1) << 1;
+		size = Math.max(size, 1);
+		cells = new Cell[size];
+		for (int i = 0; i < size; i++) {
+			cells[i] = new Cell();
+		}
+		mask = size - 1;
+	}
+
+	@Override
+	public void accept(int value) {
+		long id = Thread.currentThread().threadId();
+		int index = (int) (id ^ (id >>> 16)) * 0x9E3779B9 >>> 16 & mask;
+		for (int attempt = 0;; attempt++) {
+			if (cells[index].tryAccept(value)) {
+				return;
+			}
+			index = (index + 1) & mask;
+			if (attempt > mask) {
+				Thread.onSpinWait(); // every cell busy, more writers than cells
+			}
+		}
+	}
+
+	/**
+	 * Merged statistics of everything accepted so far.
+	 */
+	public RunningStatistics snapshot() {
+		RunningStatistics merged = new RunningStatistics();
+		for (Cell cell : cells) {
+			merged.combine(cell.snapshot());
+		}
+		return merged;
+	}
+
+	@Override
+	public String toString() {
+		return snapshot().toString();
+	}
+
+	/**
+	 * One accumulator guarded by an even/odd version. Padding keeps hot cells
+	 * on separate cache lines.
+	 */
+	@SuppressWarnings("unused")
+	private static final class Cell {
+
+		private static final VarHandle VERSION;
+
+		static {
+			try {
+				VERSION = MethodHandles.lookup().findVarHandle(Cell.class, "version", long.class);
+			} catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		private long p01, p02, p03, p04, p05, p06, p07;
+		private volatile long version;
+		private long count;
+		private long sum;
+		private double mean;
+		private double m2;
+		private int min = Integer.MAX_VALUE;
+		private int max = Integer.MIN_VALUE;
+		private long p11, p12, p13, p14, p15, p16, p17;
+
+		boolean tryAccept(int value) {
+			long current = version;
+			if ((current & 1) != 0 || !VERSION.compareAndSet(this, current, current + 1)) {
+				return false;
+			}
+			long n = count + 1;
+			double delta = value - mean;
+			double newMean = mean + delta / n;
+			count = n;
+			sum += value;
+			mean = newMean;
+			m2 += delta * (value - newMean);
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+			VERSION.setRelease(this, current + 2);
+			return true;
+		}
+
+		RunningStatistics snapshot() {
+			while (true) {
+				long before = (long) VERSION.getAcquire(this);
+				if ((before & 1) == 0) {
+					RunningStatistics copy = new RunningStatistics(count, sum, mean, m2, min, max);
+					VarHandle.loadLoadFence();
+					if (version == before) {
+						return copy;
+					}
+				}
+				Thread.onSpinWait();
+			}
+		}
+
+	}
+
+}
@@ -17,7 +17,7 @@ public class EvenOddNumberCounter {
 	 * ✅ Simple and efficient
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static long countEvenNumbers(List<Integer> list) {
+	static long countEvenNumbers(List<Integer> list) {
 		return list.stream()
 				.filter(num -> num % 2 == 0)
 				.count();
@@ -29,12 +29,89 @@ public class EvenOddNumberCounter {
 	 * ✅ Simple and efficient
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static long countOddNumbers(List<Integer> list) {
+	static long countOddNumbers(List<Integer> list) {
 		return list.stream()
 				.filter(num -> num % 2 != 0)
 				.count();
 	}
 
+	/**
+	 * Counts even numbers using Vector API lane masks.
+	 *
+	 * ✅ Processes several ints per instruction via IntVector lanes
+	 * ✅ Falls back to a scalar loop when jdk.incubator.vector is not enabled
+	 * ✅ Time Complexity: O(n)
+	 */
+	static long countEvenNumbersUsingVectorApi(int[] values) {
+		return IntReductions.countEven(values);
+	}
+
+	/**
+	 * Counts odd numbers using Vector API lane masks.
+	 *
+	 * ✅ Processes several ints per instruction via IntVector lanes
+	 * ✅ Falls back to a scalar loop when jdk.incubator.vector is not enabled
+	 * ✅ Time Complexity: O(n)
+	 */
+	static long countOddNumbersUsingVectorApi(int[] values) {
+		return IntReductions.countOdd(values);
+	}
+
+	/**
+	 * Counts even and odd numbers together using the fused NumberListStatistics collector.
+	 *
+	 * ✅ One traversal yields both counts (and sum/min/max/sign counts)
+	 * ✅ Time Complexity: O(n)
+	 */
+	static NumberListStatistics countEvenAndOddUsingFusedCollector(List<Integer> list) {
+		return list.stream()
+				.collect(NumberListStatistics.collector());
+	}
+
+	/**
+	 * Counts even numbers with fork-join parallelism.
+	 *
+	 * ✅ Splits across a dedicated ForkJoinPool for large inputs
+	 * ✅ Stays sequential below the size threshold (no fork overhead)
+	 * ✅ Time Complexity: O(n / p)
+	 */
+	static long countEvenNumbersUsingParallelForkJoin(int[] values) {
+		return ParallelIntOperations.defaultInstance().countEven(values);
+	}
+
+	/**
+	 * Counts odd numbers with fork-join parallelism.
+	 *
+	 * ✅ Splits across a dedicated ForkJoinPool for large inputs
+	 * ✅ Stays sequential below the size threshold (no fork overhead)
+	 * ✅ Time Complexity: O(n / p)
+	 */
+	static long countOddNumbersUsingParallelForkJoin(int[] values) {
+		return ParallelIntOperations.defaultInstance().countOdd(values);
+	}
+
+	/**
+	 * Builds a parity bitmap (bit i set when values[i] is even) and counts its bits.
+	 *
+	 * ✅ Branch-free / vectorized classification, 1 bit per value
+	 * ✅ Bitmap is reusable for filtering or partitioning
+	 * ✅ Time Complexity: O(n)
+	 */
+	static long countEvenNumbersUsingParityBitmap(int[] values) {
+		return IntClassifier.cardinality(IntClassifier.evenBits(values));
+	}
+
+	/**
+	 * Stably moves even numbers in front of odd ones, in place, and returns the even count.
+	 *
+	 * ✅ No extra array (rotation-based merge)
+	 * ✅ Relative order kept within each group
+	 * ⚠️ Time Complexity: O(n log n)
+	 */
+	static int partitionEvenOddInPlace(int[] values) {
+		return IntClassifier.stablePartitionEvenOdd(values);
+	}
+
 	public static void main(String[] args) {
 		try (Scanner scanner = new Scanner(System.in)) {
 			System.out.print("Enter the list of integers (separated by space): ");
@@ -47,9 +124,20 @@ public class EvenOddNumberCounter {
 				return;
 			}
 
+			int[] values = integerList.stream().mapToInt(Integer::intValue).toArray();
 
 			System.out.println("Count of even numbers: " + countEvenNumbers(integerList));
 			System.out.println("Count of odd numbers: " + countOddNumbers(integerList));
+			System.out.println("Count of even numbers (Vector API): " + countEvenNumbersUsingVectorApi(values));
+			System.out.println("Count of odd numbers (Vector API): " + countOddNumbersUsingVectorApi(values));
+
+			NumberListStatistics statistics = countEvenAndOddUsingFusedCollector(integerList);
+			System.out.println("Count of even numbers (fused collector): " + statistics.getEvenCount());
+			System.out.println("Count of odd numbers (fused collector): " + statistics.getOddCount());
+			System.out.println("Count of even numbers (parallel fork-join): " + countEvenNumbersUsingParallelForkJoin(values));
+			System.out.println("Count of odd numbers (parallel fork-join): " + countOddNumbersUsingParallelForkJoin(values));
+			System.out.println("Count of even numbers (parity bitmap): " + countEvenNumbersUsingParityBitmap(values));
+			System.out.println("Count of even numbers (stable partition): " + partitionEvenOddInPlace(values.clone()));
 		}
 	}
 
@@ -0,0 +1,238 @@
+package com.java.coding.numberlist;
+
+import java.nio.IntBuffer;
+import java.util.IntSummaryStatistics;
+import java.util.NoSuchElementException;
+
+/**
+ * Primitive aggregation engine over int[] / IntBuffer / IntList.
+ *
+ * Every operation is a single allocation-free loop over contiguous ints
+ * (summaryStatistics allocates only its result). Sums are accumulated in a
+ * long, so they do not overflow for any int[] that fits in memory.
+ *
+ * ✅ No boxing/unboxing, no stream pipeline
+ * ✅ Time Complexity: O(n)
+ */
+public final class IntArrayAggregator {
+
+	private IntArrayAggregator() {
+	}
+
+	// ---- sum ----
+
+	public static long sum(int[] values) {
+		return sum(values, 0, values.length);
+	}
+
+	public static long sum(int[] values, int from, int to) {
+		long sum = 0;
+		for (int i = from; i < to; i++) {
+			sum += values[i];
+		}
+		return sum;
+	}
+
+	public static long sum(IntList list) {
+		return sum(list.elements(), 0, list.size());
+	}
+
+	public static long sum(IntBuffer buffer) {
+		if (buffer.hasArray()) {
+			int offset = buffer.arrayOffset() + buffer.position();
+			return sum(buffer.array(), offset, offset + buffer.remaining());
+		}
+		long sum = 0;
+		for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+			sum += buffer.get(i);
+		}
+		return sum;
+	}
+
+	// ---- min ----
+
+	public static int min(int[] values) {
+		return min(values, 0, values.length);
+	}
+
+	public static int min(int[] values, int from, int to) {
+		requireNonEmpty(from, to);
+		int min = values[from];
+		for (int i = from + 1; i < to; i++) {
+			min = Math.min(min, values[i]);
+		}
+		return min;
+	}
+
+	public static int min(IntList list) {
+		return min(list.elements(), 0, list.size());
+	}
+
+	public static int min(IntBuffer buffer) {
+		if (buffer.hasArray()) {
+			int offset = buffer.arrayOffset() + buffer.position();
+			return min(buffer.array(), offset, offset + buffer.remaining());
+		}
+		requireNonEmpty(buffer.position(), buffer.limit());
+		int min = buffer.get(buffer.position());
+		for (int i = buffer.position() + 1, end = buffer.limit(); i < end; i++) {
+			min = Math.min(min, buffer.get(i));
+		}
+		return min;
+	}
+
+	// ---- max ----
+
+	public static int max(int[] values) {
+		return max(values, 0, values.length);
+	}
+
+	public static int max(int[] values, int from, int to) {
+		requireNonEmpty(from, to);
+		int max = values[from];
+		for (int i = from + 1; i < to; i++) {
+			max = Math.max(max, values[i]);
+		}
+		return max;
+	}
+
+	public static int max(IntList list) {
+		return max(list.elements(), 0, list.size());
+	}
+
+	public static int max(IntBuffer buffer) {
+		if (buffer.hasArray()) {
+			int offset = buffer.arrayOffset() + buffer.position();
+			return max(buffer.array(), offset, offset + buffer.remaining());
+		}
+		requireNonEmpty(buffer.position(), buffer.limit());
+		int max = buffer.get(buffer.position());
+		for (int i = buffer.position() + 1, end = buffer.limit(); i < end; i++) {
+			max = Math.max(max, buffer.get(i));
+		}
+		return max;
+	}
+
+	// ---- average ----
+
+	public static double average(int[] values) {
+		return average(values, 0, values.length);
+	}
+
+	public static double average(int[] values, int from, int to) {
+		requireNonEmpty(from, to);
+		return (double) sum(values, from, to) / (to - from);
+	}
+
+	public static double average(IntList list) {
+		return average(list.elements(), 0, list.size());
+	}
+
+	public static double average(IntBuffer buffer) {
+		requireNonEmpty(buffer.position(), buffer.limit());
+		return (double) sum(buffer) / buffer.remaining();
+	}
+
+	// ---- all statistics in one pass ----
+
+	/**
+	 * Computes count, sum, min, max (and therefore average) in a single pass.
+	 * An empty range yields the same result as an empty IntSummaryStatistics.
+	 */
+	public static IntSummaryStatistics summaryStatistics(int[] values, int from, int to) {
+		if (from >= to) {
+			return new IntSummaryStatistics();
+		}
+		long sum = 0;
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (int i = from; i < to; i++) {
+			int value = values[i];
+			sum += value;
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		return new IntSummaryStatistics(to - from, min, max, sum);
+	}
+
+	public static IntSummaryStatistics summaryStatistics(int[] values) {
+		return summaryStatistics(values, 0, values.length);
+	}
+
+	public static IntSummaryStatistics summaryStatistics(IntList list) {
+		return summaryStatistics(list.elements(), 0, list.size());
+	}
+
+	public static IntSummaryStatistics summaryStatistics(IntBuffer buffer) {
+		if (buffer.hasArray()) {
+			int offset = buffer.arrayOffset() + buffer.position();
+			return summaryStatistics(buffer.array(), offset, offset + buffer.remaining());
+		}
+		if (!buffer.hasRemaining()) {
+			return new IntSummaryStatistics();
+		}
+		long sum = 0;
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+		for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+			int value = buffer.get(i);
+			sum += value;
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		return new IntSummaryStatistics(buffer.remaining(), min, max, sum);
+	}
+
+	// ---- counting ----
+
+	public static long countEven(int[] values) {
+		return countEven(values, 0, values.length);
+	}
+
+	public static long countEven(int[] values, int from, int to) {
+		long count = 0;
+		for (int i = from; i < to; i++) {
+			count += ~values[i] & 1; // 1 when the lowest bit is clear
+		}
+		return count;
+	}
+
+	public static long countOdd(int[] values) {
+		return values.length - countEven(values);
+	}
+
+	public static long countOdd(int[] values, int from, int to) {
+		return (to - from) - countEven(values, from, to);
+	}
+
+	public static long countPositive(int[] values) {
+		return countPositive(values, 0, values.length);
+	}
+
+	public static long countPositive(int[] values, int from, int to) {
+		long count = 0;
+		for (int i = from; i < to; i++) {
+			count += values[i] > 0 ? 1 : 0; // compiled to a conditional move, no branch
+		}
+		return count;
+	}
+
+	public static long countNegative(int[] values) {
+		return countNegative(values, 0, values.length);
+	}
+
+	public static long countNegative(int[] values, int from, int to) {
+		long count = 0;
+		for (int i = from; i < to; i++) {
+			count += values[i] >>> 31; // sign bit
+		}
+		return count;
+	}
+
+	private static void requireNonEmpty(int from, int to) {
+		if (from >= to) {
+			throw new NoSuchElementException("No value present");
+		}
+	}
+
+}
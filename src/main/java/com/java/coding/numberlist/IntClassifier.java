@@ -0,0 +1,231 @@
+package com.java.coding.numberlist;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Batch parity and sign classification over int[] into bit-packed bitmaps,
+ * plus stable in-place partitioning.
+ *
+ * Bitmaps use the {@link java.util.BitSet#valueOf(long[])} layout: bit
+ * {@code i % 64} of word {@code i / 64} describes {@code values[i]}, and bits
+ * past the end of the array are zero. Wrap them with {@code BitSet.valueOf}
+ * when a BitSet is more convenient.
+ *
+ * ✅ Vector API masks packed straight into words when available
+ * ✅ Branch-free scalar fallback (shifts instead of comparisons)
+ * ✅ Caller-supplied bitmap overloads allocate nothing
+ * ✅ Stable partitions run in place in O(n log n) using rotations
+ *
+ * Like {@link IntReductions}, vector code is only touched when the
+ * jdk.incubator.vector module is present.
+ */
+public final class IntClassifier {
+
+	private IntClassifier() {
+	}
+
+	/**
+	 * Number of long words needed for a bitmap over length values.
+	 */
+	public static int wordsFor(int length) {
+		return (length + Long.SIZE - 1) >>> 6;
+	}
+
+	public static long[] evenBits(int[] values) {
+		long[] bits = new long[wordsFor(values.length)];
+		evenBits(values, bits);
+		return bits;
+	}
+
+	public static void evenBits(int[] values, long[] bits) {
+		checkWords(values, bits);
+		if (useVector(values)) {
+			VectorizedIntReductions.evenBits(values, bits);
+			return;
+		}
+		for (int word = 0, base = 0; base < values.length; word++, base += Long.SIZE) {
+			int end = Math.min(base + Long.SIZE, values.length);
+			long packed = 0;
+			for (int i = base; i < end; i++) {
+				packed |= (long) (~values[i] & 1) << (i - base);
+			}
+			bits[word] = packed;
+		}
+	}
+
+	public static long[] oddBits(int[] values) {
+		long[] bits = new long[wordsFor(values.length)];
+		oddBits(values, bits);
+		return bits;
+	}
+
+	public static void oddBits(int[] values, long[] bits) {
+		evenBits(values, bits);
+		complement(bits, values.length);
+	}
+
+	public static long[] negativeBits(int[] values) {
+		long[] bits = new long[wordsFor(values.length)];
+		negativeBits(values, bits);
+		return bits;
+	}
+
+	public static void negativeBits(int[] values, long[] bits) {
+		checkWords(values, bits);
+		if (useVector(values)) {
+			VectorizedIntReductions.negativeBits(values, bits);
+			return;
+		}
+		for (int word = 0, base = 0; base < values.length; word++, base += Long.SIZE) {
+			int end = Math.min(base + Long.SIZE, values.length);
+			long packed = 0;
+			for (int i = base; i < end; i++) {
+				packed |= (long) (values[i] >>> 31) << (i - base);
+			}
+			bits[word] = packed;
+		}
+	}
+
+	public static long[] positiveBits(int[] values) {
+		long[] bits = new long[wordsFor(values.length)];
+		positiveBits(values, bits);
+		return bits;
+	}
+
+	public static void positiveBits(int[] values, long[] bits) {
+		checkWords(values, bits);
+		if (useVector(values)) {
+			VectorizedIntReductions.positiveBits(values, bits);
+			return;
+		}
+		for (int word = 0, base = 0; base < values.length; word++, base += Long.SIZE) {
+			int end = Math.min(base + Long.SIZE, values.length);
+			long packed = 0;
+			for (int i = base; i < end; i++) {
+				// -v is negative exactly when v > 0; widening keeps Integer.MIN_VALUE correct
+				packed |= (-(long) values[i] >>> 63) << (i - base);
+			}
+			bits[word] = packed;
+		}
+	}
+
+	public static long[] zeroBits(int[] values) {
+		long[] bits = new long[wordsFor(values.length)];
+		zeroBits(values, bits);
+		return bits;
+	}
+
+	public static void zeroBits(int[] values, long[] bits) {
+		checkWords(values, bits);
+		if (useVector(values)) {
+			VectorizedIntReductions.zeroBits(values, bits);
+			return;
+		}
+		for (int word = 0, base = 0; base < values.length; word++, base += Long.SIZE) {
+			int end = Math.min(base + Long.SIZE, values.length);
+			long packed = 0;
+			for (int i = base; i < end; i++) {
+				int v = values[i];
+				packed |= (long) (((v | -v) >>> 31) ^ 1) << (i - base);
+			}
+			bits[word] = packed;
+		}
+	}
+
+	/**
+	 * Number of set bits in a bitmap.
+	 */
+	public static long cardinality(long[] bits) {
+		long count = 0;
+		for (long word : bits) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Moves even values before odd ones, keeping the relative order within
+	 * each group.
+	 *
+	 * @return index of the first odd value (values.length if none)
+	 */
+	public static int stablePartitionEvenOdd(int[] values) {
+		return stablePartition(values, 0, values.length, v -> (v & 1) == 0);
+	}
+
+	/**
+	 * Rearranges values into negative, zero and positive regions, keeping the
+	 * relative order within each region.
+	 *
+	 * @return {start of zeros, start of positives}
+	 */
+	public static int[] stablePartitionBySign(int[] values) {
+		int zeroStart = stablePartition(values, 0, values.length, v -> v < 0);
+		int positiveStart = stablePartition(values, zeroStart, values.length, v -> v == 0);
+		return new int[] { zeroStart, positiveStart };
+	}
+
+	/**
+	 * Stable in-place partition of values[from, to): elements matching the
+	 * predicate first. Each half is partitioned recursively and the two middle
+	 * runs are swapped with a rotation, so no buffer is needed.
+	 *
+	 * Time Complexity: O(n log n)
+	 * Space Complexity: O(log n) stack
+	 *
+	 * @return index of the first element that does not match
+	 */
+	public static int stablePartition(int[] values, int from, int to, IntPredicate predicate) {
+		// already-placed prefix and suffix need no work
+		while (from < to && predicate.test(values[from])) {
+			from++;
+		}
+		while (from < to && !predicate.test(values[to - 1])) {
+			to--;
+		}
+		if (to - from < 2) {
+			return from;
+		}
+		int mid = (from + to) >>> 1;
+		int left = stablePartition(values, from, mid, predicate);
+		int right = stablePartition(values, mid, to, predicate);
+		// [from, left) yes | [left, mid) no | [mid, right) yes | [right, to) no
+		rotate(values, left, mid, right);
+		return left + (right - mid);
+	}
+
+	/**
+	 * Swaps the adjacent blocks [from, mid) and [mid, to) with three reversals.
+	 */
+	static void rotate(int[] values, int from, int mid, int to) {
+		if (from == mid || mid == to) {
+			return;
+		}
+		ReversedIntView.reverse(values, from, mid);
+		ReversedIntView.reverse(values, mid, to);
+		ReversedIntView.reverse(values, from, to);
+	}
+
+	private static void complement(long[] bits, int length) {
+		int words = wordsFor(length);
+		for (int i = 0; i < words; i++) {
+			bits[i] = ~bits[i];
+		}
+		int used = length & (Long.SIZE - 1);
+		if (used != 0) {
+			bits[words - 1] &= (1L << used) - 1;
+		}
+	}
+
+	private static void checkWords(int[] values, long[] bits) {
+		if (bits.length < wordsFor(values.length)) {
+			throw new IllegalArgumentException(
+					"Bitmap needs " + wordsFor(values.length) + " words, got " + bits.length);
+		}
+	}
+
+	private static boolean useVector(int[] values) {
+		return IntReductions.VECTOR_API_AVAILABLE && values.length >= VectorizedIntReductions.laneCount();
+	}
+
+}
@@ -0,0 +1,457 @@
+package com.java.coding.numberlist;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.function.IntConsumer;
+
+/**
+ * Compact binary column of ints for repeated analytics runs.
+ *
+ * Layout (all little-endian):
+ *
+ * <pre>
+ * header  : magic "INTCOL01" (8) | version int (4) | chunkSize int (4) | count long (8) | footerOffset long (8)
+ * data    : count x int
+ * footer  : per chunk: min int (4) | max int (4) | sum long (8)
+ * </pre>
+ *
+ * The data section is memory-mapped read-only and exposed as IntBuffer views,
+ * so aggregation reads the page cache directly (zero-copy, no parsing).
+ * Sum/min/max/average of the whole column, and of any whole chunk inside a
+ * range query, come from the footer without touching the data at all.
+ *
+ * ✅ Text is parsed once (see {@link #convert(Path, Path, int)})
+ * ✅ sum/min/max/average: O(chunks) instead of O(n)
+ * ✅ Files larger than 2 GB are mapped in chunk-aligned windows
+ */
+public final class IntColumnFile implements AutoCloseable {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+	private static final byte[] MAGIC = { 'I', 'N', 'T', 'C', 'O', 'L', '0', '1' };
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 32;
+	private static final int FOOTER_ENTRY_SIZE = 16;
+	private static final long MAX_WINDOW_BYTES = 1L << 30;
+	private static final int MAX_CHUNK_SIZE = (int) (MAX_WINDOW_BYTES / Integer.BYTES);
+
+	private final FileChannel channel;
+	private final int chunkSize;
+	private final long count;
+	private final int chunkCount;
+	private final int chunksPerWindow;
+	private final int[] chunkMin;
+	private final int[] chunkMax;
+	private final long[] chunkSum;
+	private final MappedByteBuffer[] windows;
+
+	private IntColumnFile(FileChannel channel) throws IOException {
+		this.channel = channel;
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		readFully(header, 0);
+		byte[] magic = new byte[MAGIC.length];
+		header.get(magic);
+		if (!Arrays.equals(magic, MAGIC)) {
+			throw new IOException("Not an int column file (bad magic)");
+		}
+		int version = header.getInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported int column file version: " + version);
+		}
+		this.chunkSize = header.getInt();
+		this.count = header.getLong();
+		long footerOffset = header.getLong();
+		if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+			throw new IOException("Corrupt int column file: chunk size " + chunkSize);
+		}
+		long fileSize = channel.size();
+		if (count < 0 || count > (fileSize - HEADER_SIZE) / Integer.BYTES) {
+			throw new IOException("Corrupt int column file: count " + count + " for " + fileSize + " bytes");
+		}
+		long chunks = (count + chunkSize - 1) / chunkSize;
+		if (footerOffset != HEADER_SIZE + count * Integer.BYTES || chunks > Integer.MAX_VALUE / FOOTER_ENTRY_SIZE
+				|| fileSize - footerOffset < chunks * FOOTER_ENTRY_SIZE) {
+			throw new IOException("Corrupt int column file: footer at " + footerOffset + " for " + chunks
+					+ " chunks in " + fileSize + " bytes");
+		}
+		this.chunkCount = (int) chunks;
+		this.chunksPerWindow = (int) Math.max(1, MAX_WINDOW_BYTES / (chunkSize * (long) Integer.BYTES));
+		this.windows = new MappedByteBuffer[(chunkCount + chunksPerWindow - 1) / chunksPerWindow];
+
+		ByteBuffer footer = ByteBuffer.allocate(chunkCount * FOOTER_ENTRY_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		readFully(footer, footerOffset);
+		this.chunkMin = new int[chunkCount];
+		this.chunkMax = new int[chunkCount];
+		this.chunkSum = new long[chunkCount];
+		for (int i = 0; i < chunkCount; i++) {
+			chunkMin[i] = footer.getInt();
+			chunkMax[i] = footer.getInt();
+			chunkSum[i] = footer.getLong();
+		}
+	}
+
+	/**
+	 * Opens an existing column file; only the header and footer are read eagerly.
+	 *
+	 * @throws IOException if the header is missing, inconsistent with the file
+	 *                     size, or the file was never completely written
+	 */
+	public static IntColumnFile open(Path path) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			return new IntColumnFile(channel);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	public static void write(Path path, int[] values) throws IOException {
+		write(path, values, DEFAULT_CHUNK_SIZE);
+	}
+
+	public static void write(Path path, int[] values, int chunkSize) throws IOException {
+		Writer writer = new Writer(path, chunkSize);
+		try {
+			for (int value : values) {
+				writer.accept(value);
+			}
+			writer.close();
+		} catch (IOException | RuntimeException | Error e) {
+			writer.abort();
+			throw e;
+		}
+	}
+
+	/**
+	 * Converts a whitespace-separated text file into a column file in one
+	 * streaming pass (constant memory). If reading fails part-way, the
+	 * partial column file is deleted rather than left behind looking valid.
+	 */
+	public static long convert(Path textFile, Path columnFile, int chunkSize) throws IOException {
+		Writer writer = new Writer(columnFile, chunkSize);
+		try {
+			long converted = IntFileReader.forEachInt(textFile, writer);
+			writer.close();
+			return converted;
+		} catch (IOException | RuntimeException | Error e) {
+			writer.abort();
+			throw e;
+		}
+	}
+
+	public long count() {
+		return count;
+	}
+
+	public int chunkSize() {
+		return chunkSize;
+	}
+
+	public int chunkCount() {
+		return chunkCount;
+	}
+
+	public int chunkMin(int chunk) {
+		return chunkMin[chunk];
+	}
+
+	public int chunkMax(int chunk) {
+		return chunkMax[chunk];
+	}
+
+	public long chunkSum(int chunk) {
+		return chunkSum[chunk];
+	}
+
+	/**
+	 * Zero-copy little-endian view over one chunk of the mapped data.
+	 */
+	public IntBuffer chunkValues(int chunk) throws IOException {
+		if (chunk < 0 || chunk >= chunkCount) {
+			throw new IndexOutOfBoundsException("Chunk: " + chunk + ", Chunks: " + chunkCount);
+		}
+		MappedByteBuffer window = window(chunk / chunksPerWindow);
+		int start = (chunk % chunksPerWindow) * chunkSize * Integer.BYTES;
+		int length = (int) Math.min(chunkSize, count - (long) chunk * chunkSize);
+		return window.slice(start, length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+	}
+
+	// ---- footer-only aggregations ----
+
+	public long sum() {
+		long sum = 0;
+		for (long s : chunkSum) {
+			sum += s;
+		}
+		return sum;
+	}
+
+	public int min() {
+		requireNonEmpty();
+		return IntArrayAggregator.min(chunkMin);
+	}
+
+	public int max() {
+		requireNonEmpty();
+		return IntArrayAggregator.max(chunkMax);
+	}
+
+	public double average() {
+		requireNonEmpty();
+		return (double) sum() / count;
+	}
+
+	/**
+	 * Sum of values in [from, to): whole chunks come from the footer, only the
+	 * partial chunks at either end are scanned.
+	 */
+	public long sum(long from, long to) throws IOException {
+		if (from < 0 || to > count || from > to) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") outside [0, " + count + ")");
+		}
+		long sum = 0;
+		long position = from;
+		while (position < to) {
+			int chunk = (int) (position / chunkSize);
+			long chunkStart = (long) chunk * chunkSize;
+			long chunkEnd = Math.min(chunkStart + chunkSize, count);
+			long end = Math.min(chunkEnd, to);
+			if (position == chunkStart && end == chunkEnd) {
+				sum += chunkSum[chunk];
+			} else {
+				IntBuffer values = chunkValues(chunk);
+				for (int i = (int) (position - chunkStart), stop = (int) (end - chunkStart); i < stop; i++) {
+					sum += values.get(i);
+				}
+			}
+			position = end;
+		}
+		return sum;
+	}
+
+	// ---- full scans ----
+
+	/**
+	 * Full fused statistics (parity and sign counts need the data itself).
+	 */
+	public NumberListStatistics statistics() throws IOException {
+		NumberListStatistics statistics = new NumberListStatistics();
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			statistics.acceptAll(chunkValues(chunk));
+		}
+		return statistics;
+	}
+
+	public void forEachInt(IntConsumer consumer) throws IOException {
+		for (int chunk = 0; chunk < chunkCount; chunk++) {
+			IntBuffer values = chunkValues(chunk);
+			for (int i = 0, end = values.limit(); i < end; i++) {
+				consumer.accept(values.get(i));
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private MappedByteBuffer window(int index) throws IOException {
+		MappedByteBuffer window = windows[index];
+		if (window == null) {
+			long start = HEADER_SIZE + (long) index * chunksPerWindow * chunkSize * Integer.BYTES;
+			long end = HEADER_SIZE + count * Integer.BYTES;
+			window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(end - start,
+					(long) chunksPerWindow * chunkSize * Integer.BYTES));
+			windows[index] = window;
+		}
+		return window;
+	}
+
+	private void readFully(ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Truncated int column file");
+			}
+		}
+		buffer.flip();
+	}
+
+	private void requireNonEmpty() {
+		if (count == 0) {
+			throw new NoSuchElementException("No value present");
+		}
+	}
+
+	/**
+	 * Streaming writer; values are buffered in a fixed-size direct buffer and
+	 * chunk statistics are accumulated as they arrive. Header and footer are
+	 * written on {@link #close()}; until then the header is zeroed, so an
+	 * unfinished file never opens.
+	 *
+	 * ⚠️ Call {@link #abort()} instead of close() when producing the values
+	 *    failed, otherwise close() completes a truncated but valid-looking file
+	 */
+	public static final class Writer implements IntConsumer, AutoCloseable {
+
+		private final Path path;
+		private final FileChannel channel;
+		private final int chunkSize;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+		private final FooterBuffer footer = new FooterBuffer();
+		private long count;
+		private int inChunk;
+		private int min = Integer.MAX_VALUE;
+		private int max = Integer.MIN_VALUE;
+		private long sum;
+		private boolean closed;
+
+		public Writer(Path path, int chunkSize) throws IOException {
+			if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+				throw new IllegalArgumentException("Chunk size must be in [1, " + MAX_CHUNK_SIZE + "]: " + chunkSize);
+			}
+			this.path = path;
+			this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.TRUNCATE_EXISTING);
+			this.chunkSize = chunkSize;
+			channel.position(HEADER_SIZE);
+		}
+
+		@Override
+		public void accept(int value) {
+			if (!buffer.hasRemaining()) {
+				flush();
+			}
+			buffer.putInt(value);
+			count++;
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+			sum += value;
+			if (++inChunk == chunkSize) {
+				endChunk();
+			}
+		}
+
+		/**
+		 * Writes the footer and header; a no-op after {@link #abort()}.
+		 */
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				if (inChunk > 0) {
+					endChunk();
+				}
+				flush();
+				long footerOffset = channel.position();
+				footer.writeTo(channel);
+
+				ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+				header.put(MAGIC).putInt(VERSION).putInt(chunkSize).putLong(count).putLong(footerOffset).flip();
+				while (header.hasRemaining()) {
+					channel.write(header, header.position());
+				}
+			} finally {
+				channel.close();
+			}
+		}
+
+		/**
+		 * Discards the file: closes it without a header and deletes it.
+		 */
+		public void abort() throws IOException {
+			closed = true;
+			try {
+				channel.close();
+			} finally {
+				Files.deleteIfExists(path);
+			}
+		}
+
+		private void endChunk() {
+			footer.add(min, max, sum);
+			inChunk = 0;
+			min = Integer.MAX_VALUE;
+			max = Integer.MIN_VALUE;
+			sum = 0;
+		}
+
+		private void flush() {
+			buffer.flip();
+			try {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Growable in-memory footer (16 bytes per chunk).
+	 */
+	private static final class FooterBuffer {
+
+		private ByteBuffer entries = ByteBuffer.allocate(FOOTER_ENTRY_SIZE * 64).order(ByteOrder.LITTLE_ENDIAN);
+
+		void add(int min, int max, long sum) {
+			if (entries.remaining() < FOOTER_ENTRY_SIZE) {
+				ByteBuffer larger = ByteBuffer.allocate(entries.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+				entries.flip();
+				larger.put(entries);
+				entries = larger;
+			}
+			entries.putInt(min).putInt(max).putLong(sum);
+		}
+
+		void writeTo(FileChannel channel) throws IOException {
+			entries.flip();
+			while (entries.hasRemaining()) {
+				channel.write(entries);
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		try (Scanner scanner = new Scanner(System.in)) {
+			System.out.print("Enter the path of a whitespace-separated integer file: ");
+			Path textFile = Path.of(scanner.nextLine().trim());
+			Path columnFile = Path.of(textFile + ".intcol");
+
+			long converted = convert(textFile, columnFile, DEFAULT_CHUNK_SIZE);
+			if (converted == 0) {
+				System.out.println("No integers provided.");
+				return;
+			}
+
+			try (IntColumnFile column = open(columnFile)) {
+				System.out.println("Written " + converted + " ints to " + columnFile);
+				System.out.println("Sum from footer: " + column.sum());
+				System.out.println("Min from footer: " + column.min());
+				System.out.println("Max from footer: " + column.max());
+				System.out.println("Average from footer: " + column.average());
+				System.out.println("Statistics (mapped scan): " + column.statistics());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+}
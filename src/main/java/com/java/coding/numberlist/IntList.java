@@ -0,0 +1,145 @@
+package com.java.coding.numberlist;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Growable list of primitive ints.
+ *
+ * Stores values in a single int[] so aggregations walk contiguous memory
+ * instead of boxed Integers scattered across the heap.
+ *
+ * ✅ No boxing on add/get
+ * ✅ Amortized O(1) add (capacity grows by 1.5x)
+ */
+public final class IntList {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int[] elements;
+	private int size;
+
+	public IntList() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IntList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+		}
+		this.elements = new int[initialCapacity];
+	}
+
+	/**
+	 * Copies a boxed list into a new IntList (one unboxing pass).
+	 */
+	public static IntList of(List<Integer> list) {
+		IntList result = new IntList(list.size());
+		for (int value : list) {
+			result.add(value);
+		}
+		return result;
+	}
+
+	/**
+	 * Wraps the given values without copying; later adds may reallocate.
+	 */
+	public static IntList wrap(int[] values) {
+		IntList result = new IntList(0);
+		result.elements = values;
+		result.size = values.length;
+		return result;
+	}
+
+	public void add(int value) {
+		if (size == elements.length) {
+			grow(size + 1);
+		}
+		elements[size++] = value;
+	}
+
+	public void addAll(int[] values, int from, int to) {
+		int count = to - from;
+		if (size + count > elements.length) {
+			grow(size + count);
+		}
+		System.arraycopy(values, from, elements, size, count);
+		size += count;
+	}
+
+	public int get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return elements[index];
+	}
+
+	public void set(int index, int value) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		elements[index] = value;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Backing array; only the first {@link #size()} elements are valid.
+	 */
+	public int[] elements() {
+		return elements;
+	}
+
+	/**
+	 * View of the valid elements backed by this list's array (no copy).
+	 */
+	public IntBuffer asBuffer() {
+		return IntBuffer.wrap(elements, 0, size);
+	}
+
+	/**
+	 * SIZED/SUBSIZED spliterator over the valid elements, so parallel streams
+	 * split it into balanced halves without copying.
+	 */
+	public Spliterator.OfInt spliterator() {
+		return Spliterators.spliterator(elements, 0, size, Spliterator.ORDERED | Spliterator.NONNULL);
+	}
+
+	public IntStream stream() {
+		return StreamSupport.intStream(spliterator(), false);
+	}
+
+	public IntStream parallelStream() {
+		return StreamSupport.intStream(spliterator(), true);
+	}
+
+	public int[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	private void grow(int minCapacity) {
+		int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+		elements = Arrays.copyOf(elements, Math.max(newCapacity, DEFAULT_CAPACITY));
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.java.coding.numberlist;
+
+/**
+ * Sum/min/max/count reductions over int[] that use SIMD lanes when possible.
+ *
+ * When the JVM was started with {@code --add-modules=jdk.incubator.vector}
+ * the work is delegated to {@link VectorizedIntReductions}; otherwise (or for
+ * arrays shorter than one vector) it falls back to the scalar loops in
+ * {@link IntArrayAggregator}. Results are identical either way.
+ *
+ * ✅ Several ints per instruction on AVX2/AVX-512/NEON hardware
+ * ✅ Time Complexity: O(n)
+ */
+public final class IntReductions {
+
+	/**
+	 * True when the incubating Vector API module is resolved in this JVM.
+	 */
+	public static final boolean VECTOR_API_AVAILABLE = ModuleLayer.boot()
+			.findModule("jdk.incubator.vector")
+			.isPresent();
+
+	private static final int MIN_VECTOR_LENGTH = VECTOR_API_AVAILABLE ? VectorizedIntReductions.laneCount() : Integer.MAX_VALUE;
+
+	private IntReductions() {
+	}
+
+	public static long sum(int[] values) {
+		return useVector(values) ? VectorizedIntReductions.sum(values) : IntArrayAggregator.sum(values);
+	}
+
+	public static int min(int[] values) {
+		return useVector(values) ? VectorizedIntReductions.min(values) : IntArrayAggregator.min(values);
+	}
+
+	public static int max(int[] values) {
+		return useVector(values) ? VectorizedIntReductions.max(values) : IntArrayAggregator.max(values);
+	}
+
+	public static long countEven(int[] values) {
+		return useVector(values) ? VectorizedIntReductions.countEven(values) : IntArrayAggregator.countEven(values);
+	}
+
+	public static long countOdd(int[] values) {
+		return values.length - countEven(values);
+	}
+
+	public static long countPositive(int[] values) {
+		return useVector(values) ? VectorizedIntReductions.countPositive(values)
+				: IntArrayAggregator.countPositive(values);
+	}
+
+	public static long countNegative(int[] values) {
+		return useVector(values) ? VectorizedIntReductions.countNegative(values)
+				: IntArrayAggregator.countNegative(values);
+	}
+
+	private static boolean useVector(int[] values) {
+		return values.length >= MIN_VECTOR_LENGTH;
+	}
+
+}
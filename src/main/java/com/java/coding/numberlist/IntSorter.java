@@ -0,0 +1,189 @@
+package com.java.coding.numberlist;
+
+import java.util.Arrays;
+
+/**
+ * Primitive int sorting engine (no boxing, no Comparator).
+ *
+ * {@link #sort(int[])} picks the algorithm from the data in one min/max pass:
+ *
+ * 1. Tiny arrays: insertion sort.
+ * 2. Narrow value range (&lt;= 64K values and &lt;= n): counting sort,
+ *    O(n + range). The count table stays cache-resident (256 KB) and no
+ *    larger than the input; beyond that the radix passes (which skip
+ *    constant bytes) are faster.
+ * 3. Otherwise: LSD radix sort, 4 passes of 8 bits, O(n).
+ *
+ * Radix keys flip the sign bit so negatives sort first, and passes in which
+ * every value shares the same byte are skipped. Descending order uses the
+ * same passes with the key bits inverted, so it never needs a comparator or
+ * a reversal.
+ *
+ * ✅ O(n) for ints instead of O(n log n) comparisons
+ * ⚠️ Radix sort allocates one int[n] scratch buffer
+ */
+public final class IntSorter {
+
+	private static final int INSERTION_SORT_THRESHOLD = 48;
+	// Count table of at most 256 KB and one count per element; wider ranges go to radix sort
+	private static final int COUNTING_SORT_MAX_RANGE = 1 << 16;
+	private static final int RADIX_BITS = 8;
+	private static final int RADIX_BUCKETS = 1 << RADIX_BITS;
+
+	private static final int ASCENDING_KEY_MASK = Integer.MIN_VALUE; // flips the sign bit
+	private static final int DESCENDING_KEY_MASK = Integer.MAX_VALUE; // flips every other bit
+
+	private IntSorter() {
+	}
+
+	public static void sort(int[] values) {
+		sort(values, false);
+	}
+
+	public static void sortDescending(int[] values) {
+		sort(values, true);
+	}
+
+	/**
+	 * Parallel ascending sort for very large arrays (Arrays.parallelSort on the
+	 * common pool; sequential below its 8K-element granularity).
+	 */
+	public static void parallelSort(int[] values) {
+		Arrays.parallelSort(values);
+	}
+
+	/**
+	 * Parallel descending sort: parallel ascending sort plus an O(n) in-place
+	 * reversal, still without a comparator.
+	 */
+	public static void parallelSortDescending(int[] values) {
+		Arrays.parallelSort(values);
+		for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+			int temp = values[i];
+			values[i] = values[j];
+			values[j] = temp;
+		}
+	}
+
+	/**
+	 * LSD radix sort regardless of value range.
+	 */
+	public static void radixSort(int[] values, boolean descending) {
+		if (values.length > 1) {
+			radixSort(values, new int[values.length], descending ? DESCENDING_KEY_MASK : ASCENDING_KEY_MASK);
+		}
+	}
+
+	/**
+	 * Counting sort; only sensible when max - min is small.
+	 *
+	 * @throws IllegalArgumentException if max - min + 1 exceeds 64K
+	 */
+	public static void countingSort(int[] values, boolean descending) {
+		if (values.length > 1) {
+			int min = IntArrayAggregator.min(values);
+			int max = IntArrayAggregator.max(values);
+			long range = (long) max - min + 1;
+			if (range > COUNTING_SORT_MAX_RANGE) {
+				throw new IllegalArgumentException("Value range too wide for counting sort: " + range);
+			}
+			countingSort(values, min, max, descending);
+		}
+	}
+
+	private static void sort(int[] values, boolean descending) {
+		int n = values.length;
+		if (n < INSERTION_SORT_THRESHOLD) {
+			insertionSort(values, descending);
+			return;
+		}
+		int min = values[0];
+		int max = values[0];
+		for (int i = 1; i < n; i++) {
+			min = Math.min(min, values[i]);
+			max = Math.max(max, values[i]);
+		}
+		long range = (long) max - min + 1;
+		if (range <= COUNTING_SORT_MAX_RANGE && range <= n) {
+			countingSort(values, min, max, descending);
+		} else {
+			radixSort(values, new int[n], descending ? DESCENDING_KEY_MASK : ASCENDING_KEY_MASK);
+		}
+	}
+
+	private static void insertionSort(int[] values, boolean descending) {
+		for (int i = 1; i < values.length; i++) {
+			int value = values[i];
+			int j = i - 1;
+			while (j >= 0 && (descending ? values[j] < value : values[j] > value)) {
+				values[j + 1] = values[j];
+				j--;
+			}
+			values[j + 1] = value;
+		}
+	}
+
+	private static void countingSort(int[] values, int min, int max, boolean descending) {
+		int[] counts = new int[(int) ((long) max - min + 1)];
+		for (int value : values) {
+			counts[value - min]++;
+		}
+		int out = 0;
+		if (descending) {
+			for (int bucket = counts.length - 1; bucket >= 0; bucket--) {
+				out = fill(values, out, counts[bucket], bucket + min);
+			}
+		} else {
+			for (int bucket = 0; bucket < counts.length; bucket++) {
+				out = fill(values, out, counts[bucket], bucket + min);
+			}
+		}
+	}
+
+	private static int fill(int[] values, int from, int count, int value) {
+		int to = from + count;
+		Arrays.fill(values, from, to, value);
+		return to;
+	}
+
+	private static void radixSort(int[] values, int[] scratch, int keyMask) {
+		int n = values.length;
+
+		// Histogram all four digits in one pass.
+		int[][] counts = new int[Integer.BYTES][RADIX_BUCKETS];
+		for (int value : values) {
+			int key = value ^ keyMask;
+			counts[0][key & 0xFF]++;
+			counts[1][(key >>> 8) & 0xFF]++;
+			counts[2][(key >>> 16) & 0xFF]++;
+			counts[3][key >>> 24]++;
+		}
+
+		int[] source = values;
+		int[] target = scratch;
+		for (int pass = 0; pass < Integer.BYTES; pass++) {
+			int[] count = counts[pass];
+			int shift = pass * RADIX_BITS;
+			if (count[((source[0] ^ keyMask) >>> shift) & 0xFF] == n) {
+				continue; // every value has the same digit here
+			}
+			int offset = 0;
+			for (int bucket = 0; bucket < RADIX_BUCKETS; bucket++) {
+				int c = count[bucket];
+				count[bucket] = offset;
+				offset += c;
+			}
+			for (int i = 0; i < n; i++) {
+				int value = source[i];
+				target[count[((value ^ keyMask) >>> shift) & 0xFF]++] = value;
+			}
+			int[] swap = source;
+			source = target;
+			target = swap;
+		}
+		if (source != values) {
+			System.arraycopy(source, 0, values, 0, n);
+		}
+	}
+
+}
@@ -16,7 +16,7 @@ public class ListAscendingSorter {
 	// 1. Using stream().sorted()
 	// ✅ Most concise and idiomatic
 	// ✅ Time Complexity: O(n log n)
-	private static List<Integer> sortWithStream(List<Integer> list) {
+	static List<Integer> sortWithStream(List<Integer> list) {
 		return list.stream()
 				.sorted()
 				.collect(Collectors.toList());
@@ -25,7 +25,7 @@ public class ListAscendingSorter {
 	// 2. Using stream().sorted(Comparator.naturalOrder())
 	// ✅ Explicit natural order comparator
 	// ✅ Time Complexity: O(n log n)
-	private static List<Integer> sortWithNaturalOrder(List<Integer> list) {
+	static List<Integer> sortWithNaturalOrder(List<Integer> list) {
 		return list.stream()
 				.sorted(Comparator.naturalOrder())
 				.collect(Collectors.toList());
@@ -34,7 +34,7 @@ public class ListAscendingSorter {
 	// 3. Using custom comparator with compareTo
 	// ✅ Verbose but flexible
 	// ✅ Time Complexity: O(n log n)
-	private static List<Integer> sortWithCompareTo(List<Integer> list) {
+	static List<Integer> sortWithCompareTo(List<Integer> list) {
 		return list.stream()
 				.sorted((a, b) -> a.compareTo(b))
 				.collect(Collectors.toList());
@@ -43,12 +43,32 @@ public class ListAscendingSorter {
 	// 4. Using Collections.sort() with defensive copy
 	// ✅ Traditional and in-place
 	// ✅ Time Complexity: O(n log n)
-	private static List<Integer> sortWithCollectionsSort(List<Integer> list) {
+	static List<Integer> sortWithCollectionsSort(List<Integer> list) {
 		List<Integer> copy = new ArrayList<>(list);
 		Collections.sort(copy);
 		return copy;
 	}
 
+	// 5. Using fork-join parallel merge sort on a primitive copy
+	// ✅ Dedicated ForkJoinPool, Arrays.sort at the leaves
+	// ✅ No boxing, no comparator
+	// ✅ Time Complexity: O(n log n / p + n)
+	static int[] sortWithParallelForkJoin(int[] values) {
+		int[] copy = values.clone();
+		ParallelIntOperations.defaultInstance().sort(copy);
+		return copy;
+	}
+
+	// 6. Using IntSorter (counting / radix sort) on a primitive copy
+	// ✅ No boxing, no comparator
+	// ✅ Counting sort for narrow ranges, LSD radix sort otherwise
+	// ✅ Time Complexity: O(n)
+	static int[] sortWithRadixSort(int[] values) {
+		int[] copy = values.clone();
+		IntSorter.sort(copy);
+		return copy;
+	}
+
 	public static void main(String[] args) {
 		try (Scanner scanner = new Scanner(System.in)) {
 			System.out.print("Enter the list of integers (separated by space): ");
@@ -61,10 +81,14 @@ public class ListAscendingSorter {
 				return;
 			}
 
+			int[] values = integerList.stream().mapToInt(Integer::intValue).toArray();
+
 			System.out.println("1. Sorted using stream().sorted(): " + sortWithStream(integerList));
 			System.out.println("2. Sorted using Comparator.naturalOrder(): " + sortWithNaturalOrder(integerList));
 			System.out.println("3. Sorted using lambda compareTo: " + sortWithCompareTo(integerList));
 			System.out.println("4. Sorted using Collections.sort(): " + sortWithCollectionsSort(integerList));
+			System.out.println("5. Sorted using parallel fork-join: " + Arrays.toString(sortWithParallelForkJoin(values)));
+			System.out.println("6. Sorted using IntSorter (radix/counting): " + Arrays.toString(sortWithRadixSort(values)));
 		}
 	}
 
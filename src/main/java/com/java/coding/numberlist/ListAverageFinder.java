@@ -18,7 +18,7 @@ public class ListAverageFinder {
 	 * ✅ Uses primitive stream (double), avoids boxing
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static double averageUsingMapToDouble(List<Integer> list) {
+	static double averageUsingMapToDouble(List<Integer> list) {
 		return list.stream()
 				.mapToDouble(Integer::doubleValue)
 				.average()
@@ -32,7 +32,7 @@ public class ListAverageFinder {
 	 * ⚠️ Slight overhead due to collector abstraction
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static double averageUsingCollectors(List<Integer> list) {
+	static double averageUsingCollectors(List<Integer> list) {
 		return list.stream()
 				.collect(Collectors.averagingInt(Integer::intValue));
 	}
@@ -44,7 +44,7 @@ public class ListAverageFinder {
 	 * ⚠️ Slightly more costly than direct average due to extra stats computation
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static double averageUsingSummaryStatistics(List<Integer> list) {
+	static double averageUsingSummaryStatistics(List<Integer> list) {
 		return list.stream()
 				.mapToInt(Integer::intValue)
 				.summaryStatistics()
@@ -56,16 +56,51 @@ public class ListAverageFinder {
 	 *
 	 * ✅ Fine-grained control
 	 * ⚠️ Less elegant; not preferred unless customization is needed
+	 * ✅ Sums in a long, so large inputs do not overflow
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static double averageUsingManualMethod(List<Integer> list) {
-		int sum = 0;
+	static double averageUsingManualMethod(List<Integer> list) {
+		long sum = 0;
 		for (int num : list) {
 			sum += num;
 		}
 		return (double) sum / list.size();
 	}
 
+	/**
+	 * Calculates the average over a primitive int[] using IntArrayAggregator.
+	 *
+	 * ✅ No boxing, walks contiguous memory
+	 * ✅ Sums in a long without unboxing each element
+	 * ✅ Time Complexity: O(n)
+	 */
+	static double averageUsingIntArray(int[] values) {
+		return IntArrayAggregator.average(values);
+	}
+
+	/**
+	 * Calculates the average with fork-join parallelism.
+	 *
+	 * ✅ Splits across a dedicated ForkJoinPool for large inputs
+	 * ✅ Stays sequential below the size threshold (no fork overhead)
+	 * ✅ Time Complexity: O(n / p)
+	 */
+	static double averageUsingParallelForkJoin(int[] values) {
+		return ParallelIntOperations.defaultInstance().average(values);
+	}
+
+	/**
+	 * Computes the average incrementally with RunningStatistics (Welford), as a stream consumer would.
+	 *
+	 * ✅ O(1) per value, no need for the whole list up front
+	 * ✅ Also yields variance, min and max from the same pass
+	 * ✅ Mergeable across threads (ConcurrentRunningStatistics) and windowable
+	 * ✅ Time Complexity: O(n)
+	 */
+	static double averageUsingRunningStatistics(int[] values) {
+		return RunningStatistics.of(values).getMean();
+	}
+
 	public static void main(String[] args) {
 		try (Scanner scanner = new Scanner(System.in)) {
 			System.out.print("Enter the list of integers (separated by space): ");
@@ -78,10 +113,15 @@ public class ListAverageFinder {
 				return;
 			}
 
+			int[] values = integerList.stream().mapToInt(Integer::intValue).toArray();
+
 			System.out.println("Average using mapToDouble: "+averageUsingMapToDouble(integerList));
 	        System.out.println("Average using Collectors.averagingInt: "+averageUsingCollectors(integerList));
 	        System.out.println("Average using IntSummaryStatistics: "+averageUsingSummaryStatistics(integerList));
 	        System.out.println("Average using manual calculation: "+averageUsingManualMethod(integerList));
+	        System.out.println("Average using IntArrayAggregator: " + averageUsingIntArray(values));
+	        System.out.println("Average using parallel fork-join: " + averageUsingParallelForkJoin(values));
+	        System.out.println("Average using RunningStatistics (Welford): " + averageUsingRunningStatistics(values));
 		}
 	}
 
@@ -12,7 +12,7 @@ public class ListDescendingSorter {
 	// 1. Using Comparator.reverseOrder()
 	// ✅ Simple and idiomatic
 	// ✅ Time Complexity: O(n log n)
-	private static List<Integer> sortWithDescOrder(List<Integer> list) {
+	static List<Integer> sortWithDescOrder(List<Integer> list) {
 		return list.stream()
 				.sorted(Comparator.reverseOrder())
 				.collect(Collectors.toList());
@@ -21,7 +21,7 @@ public class ListDescendingSorter {
 	// 2. Using custom comparator with compareTo (b.compareTo(a))
 	// ✅ Flexible for future comparator enhancements
 	// ✅ Time Complexity: O(n log n)
-	private static List<Integer> sortWithCustomDescCompare(List<Integer> list) {
+	static List<Integer> sortWithCustomDescCompare(List<Integer> list) {
 		return list.stream()
 				.sorted((a, b) -> b.compareTo(a))
 				.collect(Collectors.toList());
@@ -29,10 +29,31 @@ public class ListDescendingSorter {
 
 	// 3. Using Collections.sort with custom comparator
 	// ✅ Traditional approach, sorts a mutable copy
+	// ✅ Integer.compare instead of b - a, which overflows for values far apart
 	// ✅ Time Complexity: O(n log n)
-	private static List<Integer> sortWithCollectionsReverse(List<Integer> list) {
+	static List<Integer> sortWithCollectionsReverse(List<Integer> list) {
 		List<Integer> copy = new ArrayList<>(list);
-		copy.sort((a, b) -> b - a); // OR Collections.sort(copy, Comparator.reverseOrder());
+		copy.sort((a, b) -> Integer.compare(b, a)); // OR Collections.sort(copy, Comparator.reverseOrder());
+		return copy;
+	}
+
+	// 4. Using fork-join parallel merge sort on a primitive copy
+	// ✅ Dedicated ForkJoinPool, Arrays.sort at the leaves
+	// ✅ Descending via in-place reversal, no Comparator.reverseOrder()
+	// ✅ Time Complexity: O(n log n / p + n)
+	static int[] sortWithParallelForkJoin(int[] values) {
+		int[] copy = values.clone();
+		ParallelIntOperations.defaultInstance().sortDescending(copy);
+		return copy;
+	}
+
+	// 5. Using IntSorter (counting / radix sort) on a primitive copy
+	// ✅ No boxing, no Comparator.reverseOrder()
+	// ✅ Descending keys are built into the radix passes (no reversal)
+	// ✅ Time Complexity: O(n)
+	static int[] sortWithRadixSort(int[] values) {
+		int[] copy = values.clone();
+		IntSorter.sortDescending(copy);
 		return copy;
 	}
 
@@ -48,9 +69,13 @@ public class ListDescendingSorter {
 				return;
 			}
 
+			int[] values = integerList.stream().mapToInt(Integer::intValue).toArray();
+
 	        System.out.println("Sorted desc using Comparator.reverseOrder(): " + sortWithDescOrder(integerList));
 	        System.out.println("Sorted desc using lambda with compareTo: " + sortWithCustomDescCompare(integerList));
 	        System.out.println("Sorted desc using Collections.sort() + custom comparator: " + sortWithCollectionsReverse(integerList));
+	        System.out.println("Sorted desc using parallel fork-join: " + Arrays.toString(sortWithParallelForkJoin(values)));
+	        System.out.println("Sorted desc using IntSorter (radix/counting): " + Arrays.toString(sortWithRadixSort(values)));
 		}
 	}
 
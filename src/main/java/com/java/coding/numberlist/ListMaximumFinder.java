@@ -20,7 +20,7 @@ public class ListMaximumFinder {
 	 * ✅ Avoids boxing/unboxing overhead
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int findMaxUsingMapToInt(List<Integer> list) {
+	static int findMaxUsingMapToInt(List<Integer> list) {
 		return list.stream()
 				.mapToInt(Integer::intValue)
 				.max()
@@ -34,7 +34,7 @@ public class ListMaximumFinder {
 	 * ⚠️ Slight boxing overhead
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int findMaxUsingIntegerCompare(List<Integer> list) {
+	static int findMaxUsingIntegerCompare(List<Integer> list) {
 		return list.stream()
 				.max(Integer::compareTo)
 				.orElseThrow();
@@ -47,7 +47,7 @@ public class ListMaximumFinder {
 	 * ⚠️ Similar performance to max(), but with slight overhead
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int findMaxUsingReduce(List<Integer> list) {
+	static int findMaxUsingReduce(List<Integer> list) {
 		return list.stream()
 				.reduce(Integer::max)
 				.orElseThrow();
@@ -59,7 +59,7 @@ public class ListMaximumFinder {
 	 * ✅ Equivalent to Integer::compareTo (since Integer implements Comparable)
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int findMaxUsingComparableCompare(List<Integer> list) {
+	static int findMaxUsingComparableCompare(List<Integer> list) {
 		return list.stream()
 				.max(Comparable::compareTo)
 				.orElseThrow();
@@ -72,13 +72,57 @@ public class ListMaximumFinder {
 	 * ❌ Entire list is sorted unnecessarily
 	 * ❌ Time Complexity: O(n log n)
 	 */
-	private static int findMaxUsingSorted(List<Integer> list) {
+	static int findMaxUsingSorted(List<Integer> list) {
 		return list.stream()
 				.sorted(Comparator.reverseOrder())
 				.findFirst()
 				.orElseThrow();
 	}
 
+	/**
+	 * Finds the maximum value over a primitive int[] using IntArrayAggregator.
+	 *
+	 * ✅ No boxing, no stream pipeline
+	 * ✅ Walks contiguous memory
+	 * ✅ Time Complexity: O(n)
+	 */
+	static int findMaxUsingIntArray(int[] values) {
+		return IntArrayAggregator.max(values);
+	}
+
+	/**
+	 * Finds the maximum value using Vector API lanes.
+	 *
+	 * ✅ Processes several ints per instruction via IntVector lanes
+	 * ✅ Falls back to a scalar loop when jdk.incubator.vector is not enabled
+	 * ✅ Time Complexity: O(n)
+	 */
+	static int findMaxUsingVectorApi(int[] values) {
+		return IntReductions.max(values);
+	}
+
+	/**
+	 * Finds the maximum value with fork-join parallelism.
+	 *
+	 * ✅ Splits across a dedicated ForkJoinPool for large inputs
+	 * ✅ Stays sequential below the size threshold (no fork overhead)
+	 * ✅ Time Complexity: O(n / p)
+	 */
+	static int findMaxUsingParallelForkJoin(int[] values) {
+		return ParallelIntOperations.defaultInstance().max(values);
+	}
+
+	/**
+	 * Finds the K largest values (descending) using TopKSelector.
+	 *
+	 * ✅ Bounded primitive heap for small K, introselect for large K
+	 * ✅ No full sort (unlike findMaxUsingSorted + sublist)
+	 * ✅ Time Complexity: O(n log K)
+	 */
+	static int[] findTopKUsingSelection(int[] values, int k) {
+		return TopKSelector.topK(values, k);
+	}
+
 	public static void main(String[] args) {
 		try (Scanner scanner = new Scanner(System.in)) {
 			System.out.print("Enter the list of integers (separated by space): ");
@@ -91,11 +135,17 @@ public class ListMaximumFinder {
 				return;
 			}
 
+			int[] values = integerList.stream().mapToInt(Integer::intValue).toArray();
+
 			System.out.println("Max using mapToInt: " + findMaxUsingMapToInt(integerList));
 			System.out.println("Max using Integer::compareTo: " + findMaxUsingIntegerCompare(integerList));
 			System.out.println("Max using reduce & Integer::max: " + findMaxUsingReduce(integerList));
 			System.out.println("Max using Comparable::compareTo: " + findMaxUsingComparableCompare(integerList));
 			System.out.println("Max using sorted & findFirst: " + findMaxUsingSorted(integerList));
+			System.out.println("Max using IntArrayAggregator: " + findMaxUsingIntArray(values));
+			System.out.println("Max using Vector API: " + findMaxUsingVectorApi(values));
+			System.out.println("Max using parallel fork-join: " + findMaxUsingParallelForkJoin(values));
+			System.out.println("Top 3 using TopKSelector: " + Arrays.toString(findTopKUsingSelection(values, 3)));
 		}
 	}
 
@@ -19,7 +19,7 @@ public class ListMinimumFinder {
 	 * ✅ Avoids boxing/unboxing overhead
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int findMinUsingMapToInt(List<Integer> list) {
+	static int findMinUsingMapToInt(List<Integer> list) {
 		return list.stream()
 				.mapToInt(Integer::intValue)
 				.min()
@@ -33,7 +33,7 @@ public class ListMinimumFinder {
 	 * ⚠️ Slight boxing overhead
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int findMinUsingIntegerCompare(List<Integer> list) {
+	static int findMinUsingIntegerCompare(List<Integer> list) {
 		return list.stream()
 				.min(Integer::compareTo)
 				.orElseThrow();
@@ -46,7 +46,7 @@ public class ListMinimumFinder {
 	 * ⚠️ Slight overhead due to boxing
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int findMinUsingReduce(List<Integer> list) {
+	static int findMinUsingReduce(List<Integer> list) {
 		return list.stream()
 				.reduce(Integer::min)
 				.orElseThrow();
@@ -58,7 +58,7 @@ public class ListMinimumFinder {
 	 * ✅ Equivalent to Integer::compareTo
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int findMinUsingComparableCompare(List<Integer> list) {
+	static int findMinUsingComparableCompare(List<Integer> list) {
 		return list.stream()
 				.min(Comparable::compareTo)
 				.orElseThrow();
@@ -70,13 +70,57 @@ public class ListMinimumFinder {
 	 * ❌ Inefficient: sorts the entire list unnecessarily
 	 * ❌ Time Complexity: O(n log n)
 	 */
-	private static int findMinUsingSorted(List<Integer> list) {
+	static int findMinUsingSorted(List<Integer> list) {
 		return list.stream()
 				.sorted(Comparator.naturalOrder())
 				.findFirst()
 				.orElseThrow();
 	}
 
+	/**
+	 * Finds the minimum value over a primitive int[] using IntArrayAggregator.
+	 *
+	 * ✅ No boxing, no stream pipeline
+	 * ✅ Walks contiguous memory
+	 * ✅ Time Complexity: O(n)
+	 */
+	static int findMinUsingIntArray(int[] values) {
+		return IntArrayAggregator.min(values);
+	}
+
+	/**
+	 * Finds the minimum value using Vector API lanes.
+	 *
+	 * ✅ Processes several ints per instruction via IntVector lanes
+	 * ✅ Falls back to a scalar loop when jdk.incubator.vector is not enabled
+	 * ✅ Time Complexity: O(n)
+	 */
+	static int findMinUsingVectorApi(int[] values) {
+		return IntReductions.min(values);
+	}
+
+	/**
+	 * Finds the minimum value with fork-join parallelism.
+	 *
+	 * ✅ Splits across a dedicated ForkJoinPool for large inputs
+	 * ✅ Stays sequential below the size threshold (no fork overhead)
+	 * ✅ Time Complexity: O(n / p)
+	 */
+	static int findMinUsingParallelForkJoin(int[] values) {
+		return ParallelIntOperations.defaultInstance().min(values);
+	}
+
+	/**
+	 * Finds the K smallest values (ascending) using TopKSelector.
+	 *
+	 * ✅ Bounded primitive heap for small K, introselect for large K
+	 * ✅ No full sort (unlike findMinUsingSorted + sublist)
+	 * ✅ Time Complexity: O(n log K)
+	 */
+	static int[] findBottomKUsingSelection(int[] values, int k) {
+		return TopKSelector.bottomK(values, k);
+	}
+
 	public static void main(String[] args) {
 		try (Scanner scanner = new Scanner(System.in)) {
 			System.out.print("Enter the list of integers (separated by space): ");
@@ -89,11 +133,17 @@ public class ListMinimumFinder {
 				return;
 			}
 
+			int[] values = integerList.stream().mapToInt(Integer::intValue).toArray();
+
 			System.out.println("Min using mapToInt: " + findMinUsingMapToInt(integerList));
 			System.out.println("Min using Integer::compareTo: " + findMinUsingIntegerCompare(integerList));
 			System.out.println("Min using reduce & Integer::min: " + findMinUsingReduce(integerList));
 			System.out.println("Min using Comparable::compareTo: " + findMinUsingComparableCompare(integerList));
 			System.out.println("Min using sorted & findFirst: " + findMinUsingSorted(integerList));
+			System.out.println("Min using IntArrayAggregator: " + findMinUsingIntArray(values));
+			System.out.println("Min using Vector API: " + findMinUsingVectorApi(values));
+			System.out.println("Min using parallel fork-join: " + findMinUsingParallelForkJoin(values));
+			System.out.println("Bottom 3 using TopKSelector: " + Arrays.toString(findBottomKUsingSelection(values, 3)));
 		}
 	}
 
@@ -20,7 +20,7 @@ public class ListReverser {
 	 * ✅ Most efficient and simple for mutable lists
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static List<Integer> reverseWithCollections(List<Integer> list) {
+	static List<Integer> reverseWithCollections(List<Integer> list) {
 		List<Integer> copy = new ArrayList<>(list); // Defensive copy to preserve original
 		Collections.reverse(copy);
 		return copy;
@@ -32,7 +32,7 @@ public class ListReverser {
 	 * ✅ Safe method without mutating original list
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static List<Integer> reverseWithIterator(List<Integer> list) {
+	static List<Integer> reverseWithIterator(List<Integer> list) {
 		List<Integer> reversed = new ArrayList<>();
 		ListIterator<Integer> iterator = list.listIterator(list.size());
 		while (iterator.hasPrevious()) {
@@ -48,12 +48,46 @@ public class ListReverser {
 	 * ⚠️ Slightly slower due to random access (list.get())
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static List<Integer> reverseWithStreamIndex(List<Integer> list) {
+	static List<Integer> reverseWithStreamIndex(List<Integer> list) {
 		return IntStream.rangeClosed(1, list.size())
 				.mapToObj(i -> list.get(list.size() - i))
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * 4. Using List.reversed() (Java 21) - O(1) view
+	 *
+	 * ✅ No copy, no boxing beyond what the list already holds
+	 * ✅ Works for ArrayList, LinkedList and List.of alike
+	 * ⚠️ Reflects later changes to the original list
+	 * ✅ Time Complexity: O(1) to create, O(n) to iterate
+	 */
+	static List<Integer> reverseAsView(List<Integer> list) {
+		return list.reversed();
+	}
+
+	/**
+	 * 5. Using ReversedIntView - O(1) view over a primitive array
+	 *
+	 * ✅ No copy and no boxing at all
+	 * ✅ Time Complexity: O(1) to create, O(n) to iterate
+	 */
+	static ReversedIntView reverseAsIntView(int[] values) {
+		return ReversedIntView.of(values);
+	}
+
+	/**
+	 * 6. In-place block-swap reversal of a primitive array
+	 *
+	 * ✅ Swaps whole SIMD vectors from both ends when the Vector API is available
+	 * ⚠️ Mutates the given array
+	 * ✅ Time Complexity: O(n), Space Complexity: O(1)
+	 */
+	static int[] reverseInPlace(int[] values) {
+		ReversedIntView.reverse(values);
+		return values;
+	}
+
 	public static void main(String[] args) {
 
 		try (Scanner scanner = new Scanner(System.in)) {
@@ -70,6 +104,11 @@ public class ListReverser {
 			System.out.println("Reversed using Collections.reverse(): " + reverseWithCollections(originalList));
 			System.out.println("Reversed using ListIterator: " + reverseWithIterator(originalList));
 			System.out.println("Reversed using Stream (index-based): " + reverseWithStreamIndex(originalList));
+			System.out.println("Reversed using List.reversed() view: " + reverseAsView(originalList));
+
+			int[] values = originalList.stream().mapToInt(Integer::intValue).toArray();
+			System.out.println("Reversed using ReversedIntView: " + reverseAsIntView(values));
+			System.out.println("Reversed in place (block swap): " + Arrays.toString(reverseInPlace(values)));
 		}
 	}
 
@@ -15,36 +15,39 @@ public class ListTotalSumFinder {
 	 * Calculates the sum using primitive stream mapToInt.
 	 *
 	 * ✅ Most efficient approach (no boxing/unboxing)
+	 * ✅ Widened to long before summing, so large inputs do not overflow
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int sumUsingMapToInt(List<Integer> list) {
+	static long sumUsingMapToInt(List<Integer> list) {
 		return list.stream()
 				.mapToInt(Integer::intValue)
+				.asLongStream()
 				.sum();
 	}
 
 	/**
-	 * Calculates the sum using Stream.reduce with Integer::sum.
+	 * Calculates the sum using Stream.reduce with Long::sum.
 	 *
 	 * ✅ Functional and expressive
 	 * ⚠️ Slight boxing/unboxing overhead
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int sumUsingReduce(List<Integer> list) {
+	static long sumUsingReduce(List<Integer> list) {
 		return list.stream()
-				.reduce(0, Integer::sum);
+				.map(Integer::longValue)
+				.reduce(0L, Long::sum);
 	}
 
 	/**
-	 * Calculates the sum using Collectors.summingInt.
+	 * Calculates the sum using Collectors.summingLong.
 	 *
 	 * ✅ Clean and composable in collector chains
 	 * ⚠️ Minor overhead due to collector abstraction
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int sumUsingCollectors(List<Integer> list) {
+	static long sumUsingCollectors(List<Integer> list) {
 		return list.stream()
-				.collect(Collectors.summingInt(Integer::intValue));
+				.collect(Collectors.summingLong(Integer::longValue));
 	}
 
 	/**
@@ -54,8 +57,8 @@ public class ListTotalSumFinder {
 	 * ✅ No overhead from streams
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int sumUsingForEach(List<Integer> list) {
-		int sum = 0;
+	static long sumUsingForEach(List<Integer> list) {
+		long sum = 0;
 		for (int num : list) {
 			sum += num;
 		}
@@ -69,13 +72,46 @@ public class ListTotalSumFinder {
 	 * ⚠️ Slightly more computation involved
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static int sumUsingSummaryStatistics(List<Integer> list) {
-		return (int) list.stream()
+	static long sumUsingSummaryStatistics(List<Integer> list) {
+		return list.stream()
 				.mapToInt(Integer::intValue)
 				.summaryStatistics()
 				.getSum();
 	}
 
+	/**
+	 * Calculates the sum over a primitive int[] using IntArrayAggregator.
+	 *
+	 * ✅ No boxing, walks contiguous memory
+	 * ✅ Accumulates in a long without unboxing each element
+	 * ✅ Time Complexity: O(n)
+	 */
+	static long sumUsingIntArray(int[] values) {
+		return IntArrayAggregator.sum(values);
+	}
+
+	/**
+	 * Calculates the sum using Vector API lanes (widened to long).
+	 *
+	 * ✅ Processes several ints per instruction via IntVector lanes
+	 * ✅ Falls back to a scalar loop when jdk.incubator.vector is not enabled
+	 * ✅ Time Complexity: O(n)
+	 */
+	static long sumUsingVectorApi(int[] values) {
+		return IntReductions.sum(values);
+	}
+
+	/**
+	 * Calculates the sum with fork-join parallelism.
+	 *
+	 * ✅ Splits across a dedicated ForkJoinPool for large inputs
+	 * ✅ Stays sequential below the size threshold (no fork overhead)
+	 * ✅ Time Complexity: O(n / p)
+	 */
+	static long sumUsingParallelForkJoin(int[] values) {
+		return ParallelIntOperations.defaultInstance().sum(values);
+	}
+
 	public static void main(String[] args) {
 		try (Scanner scanner = new Scanner(System.in)) {
 			System.out.print("Enter the list of integers (separated by space): ");
@@ -88,11 +124,16 @@ public class ListTotalSumFinder {
 				return;
 			}
 
+			int[] values = integerList.stream().mapToInt(Integer::intValue).toArray();
+
 			System.out.println("Sum using mapToInt: " + sumUsingMapToInt(integerList));
-	        System.out.println("Sum using reduce & Integer::sum: " + sumUsingReduce(integerList));
-	        System.out.println("Sum using Collectors.summingInt: " + sumUsingCollectors(integerList));
+	        System.out.println("Sum using reduce & Long::sum: " + sumUsingReduce(integerList));
+	        System.out.println("Sum using Collectors.summingLong: " + sumUsingCollectors(integerList));
 	        System.out.println("Sum using traditional loop: " + sumUsingForEach(integerList));
 	        System.out.println("Sum using IntSummaryStatistics: " + sumUsingSummaryStatistics(integerList));
+	        System.out.println("Sum using IntArrayAggregator (long): " + sumUsingIntArray(values));
+	        System.out.println("Sum using Vector API (long): " + sumUsingVectorApi(values));
+	        System.out.println("Sum using parallel fork-join (long): " + sumUsingParallelForkJoin(values));
 		}
 	}
 
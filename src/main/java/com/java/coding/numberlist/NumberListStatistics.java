@@ -0,0 +1,188 @@
+package com.java.coding.numberlist;
+
+import java.nio.IntBuffer;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.Collector;
+
+/**
+ * Fused accumulator that gathers every statistic the numberlist classes
+ * compute separately: count, sum, min, max, average, even/odd counts and
+ * positive/negative/zero counts.
+ *
+ * One traversal replaces the separate passes made by ListTotalSumFinder,
+ * ListMinimumFinder, ListMaximumFinder, ListAverageFinder,
+ * EvenOddNumberCounter and PositiveNegativeNumberCounter.
+ *
+ * Usable as an {@link IntConsumer} (e.g. {@code intStream.forEach(stats)}),
+ * as a {@link Collector} via {@link #collector()}, or directly over int[] via
+ * {@link #of(int[])}. Like IntSummaryStatistics it is not thread-safe, but
+ * partial results can be merged with {@link #combine(NumberListStatistics)}.
+ *
+ * ✅ Single pass, no boxing for int[] input
+ * ✅ Sum kept in a long (no int overflow)
+ * ✅ Time Complexity: O(n)
+ */
+public final class NumberListStatistics implements IntConsumer {
+
+	private long count;
+	private long sum;
+	private int min = Integer.MAX_VALUE;
+	private int max = Integer.MIN_VALUE;
+	private long evenCount;
+	private long positiveCount;
+	private long negativeCount;
+
+	/**
+	 * Collector for {@code Stream<Integer>}; supports parallel streams.
+	 */
+	public static Collector<Integer, NumberListStatistics, NumberListStatistics> collector() {
+		return Collector.of(
+				NumberListStatistics::new,
+				NumberListStatistics::accept,
+				NumberListStatistics::combine,
+				Collector.Characteristics.IDENTITY_FINISH,
+				Collector.Characteristics.UNORDERED);
+	}
+
+	public static NumberListStatistics of(int[] values) {
+		return of(values, 0, values.length);
+	}
+
+	public static NumberListStatistics of(int[] values, int from, int to) {
+		NumberListStatistics statistics = new NumberListStatistics();
+		statistics.acceptAll(values, from, to);
+		return statistics;
+	}
+
+	public static NumberListStatistics of(List<Integer> list) {
+		NumberListStatistics statistics = new NumberListStatistics();
+		for (int value : list) {
+			statistics.accept(value);
+		}
+		return statistics;
+	}
+
+	@Override
+	public void accept(int value) {
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+		evenCount += ~value & 1;
+		positiveCount += value > 0 ? 1 : 0;
+		negativeCount += value >>> 31;
+	}
+
+	/**
+	 * Accumulates a range with the fields held in locals, so the JIT keeps
+	 * them in registers instead of writing back on every element.
+	 */
+	public void acceptAll(int[] values, int from, int to) {
+		long localSum = 0;
+		int localMin = min;
+		int localMax = max;
+		long localEven = 0;
+		long localPositive = 0;
+		long localNegative = 0;
+		for (int i = from; i < to; i++) {
+			int value = values[i];
+			localSum += value;
+			localMin = Math.min(localMin, value);
+			localMax = Math.max(localMax, value);
+			localEven += ~value & 1;
+			localPositive += value > 0 ? 1 : 0;
+			localNegative += value >>> 31;
+		}
+		count += to - from;
+		sum += localSum;
+		min = localMin;
+		max = localMax;
+		evenCount += localEven;
+		positiveCount += localPositive;
+		negativeCount += localNegative;
+	}
+
+	/**
+	 * Accumulates the remaining ints of the buffer without moving its position.
+	 */
+	public void acceptAll(IntBuffer buffer) {
+		if (buffer.hasArray()) {
+			int offset = buffer.arrayOffset() + buffer.position();
+			acceptAll(buffer.array(), offset, offset + buffer.remaining());
+			return;
+		}
+		for (int i = buffer.position(), end = buffer.limit(); i < end; i++) {
+			accept(buffer.get(i));
+		}
+	}
+
+	public NumberListStatistics combine(NumberListStatistics other) {
+		count += other.count;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		evenCount += other.evenCount;
+		positiveCount += other.positiveCount;
+		negativeCount += other.negativeCount;
+		return this;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getSum() {
+		return sum;
+	}
+
+	/**
+	 * @return the minimum, or Integer.MAX_VALUE if nothing was accepted
+	 */
+	public int getMin() {
+		return min;
+	}
+
+	/**
+	 * @return the maximum, or Integer.MIN_VALUE if nothing was accepted
+	 */
+	public int getMax() {
+		return max;
+	}
+
+	/**
+	 * @return the arithmetic mean, or 0 if nothing was accepted
+	 */
+	public double getAverage() {
+		return count > 0 ? (double) sum / count : 0.0d;
+	}
+
+	public long getEvenCount() {
+		return evenCount;
+	}
+
+	public long getOddCount() {
+		return count - evenCount;
+	}
+
+	public long getPositiveCount() {
+		return positiveCount;
+	}
+
+	public long getNegativeCount() {
+		return negativeCount;
+	}
+
+	public long getZeroCount() {
+		return count - positiveCount - negativeCount;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"%s{count=%d, sum=%d, min=%d, average=%f, max=%d, even=%d, odd=%d, positive=%d, negative=%d, zero=%d}",
+				getClass().getSimpleName(), count, sum, min, getAverage(), max,
+				evenCount, getOddCount(), positiveCount, negativeCount, getZeroCount());
+	}
+
+}
@@ -0,0 +1,248 @@
+package com.java.coding.numberlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import com.java.coding.metrics.AlgorithmMetrics;
+
+/**
+ * Public catalog of the numberlist strategies, keyed by operation and
+ * strategy name, so callers outside the package (the REST layer, the
+ * adaptive dispatcher) can pick one by name.
+ *
+ * Strategy names are the method names in the numberlist classes, e.g.
+ * {@code sum / sumUsingVectorApi} or {@code ascending / sortWithRadixSort}.
+ * Every strategy takes an int[]; List-based strategies receive a mutable
+ * boxed copy (an ArrayList, as the mains build), so the boxing cost is part
+ * of what they measure. Sort strategies never modify their input.
+ * Strategies of one operation return equal results for every input: sums
+ * are accumulated in a long and comparators use Integer.compare, so none
+ * wraps around at the int limits. The one exception is
+ * averageUsingRunningStatistics, whose Welford update may round the last
+ * bits differently.
+ *
+ * ✅ Registration order is stable (LinkedHashMap), first entry is the original
+ *    stream-based approach, {@link #defaultAggregationStrategy(String)} the fastest
+ * ✅ {@link #aggregate} and {@link #sort} are recorded by AlgorithmMetrics,
+ *    tagged with the operation (e.g. max, sortAscending) and strategy name
+ */
+public final class NumberListStrategies {
+
+	private static final Map<String, Map<String, Function<int[], Number>>> AGGREGATIONS = new LinkedHashMap<>();
+
+	private static final Map<String, String> DEFAULT_AGGREGATION_STRATEGIES = new LinkedHashMap<>();
+
+	private static final Map<String, Map<String, UnaryOperator<int[]>>> SORTS = new LinkedHashMap<>();
+
+	static {
+		Map<String, Function<int[], Number>> sum = aggregation("sum", "sumUsingVectorApi");
+		sum.put("sumUsingMapToInt", boxed(ListTotalSumFinder::sumUsingMapToInt));
+		sum.put("sumUsingReduce", boxed(ListTotalSumFinder::sumUsingReduce));
+		sum.put("sumUsingCollectors", boxed(ListTotalSumFinder::sumUsingCollectors));
+		sum.put("sumUsingForEach", boxed(ListTotalSumFinder::sumUsingForEach));
+		sum.put("sumUsingSummaryStatistics", boxed(ListTotalSumFinder::sumUsingSummaryStatistics));
+		sum.put("sumUsingIntArray", ListTotalSumFinder::sumUsingIntArray);
+		sum.put("sumUsingVectorApi", ListTotalSumFinder::sumUsingVectorApi);
+		sum.put("sumUsingParallelForkJoin", ListTotalSumFinder::sumUsingParallelForkJoin);
+
+		Map<String, Function<int[], Number>> min = aggregation("min", "findMinUsingVectorApi");
+		min.put("findMinUsingMapToInt", boxed(ListMinimumFinder::findMinUsingMapToInt));
+		min.put("findMinUsingIntegerCompare", boxed(ListMinimumFinder::findMinUsingIntegerCompare));
+		min.put("findMinUsingReduce", boxed(ListMinimumFinder::findMinUsingReduce));
+		min.put("findMinUsingComparableCompare", boxed(ListMinimumFinder::findMinUsingComparableCompare));
+		min.put("findMinUsingSorted", boxed(ListMinimumFinder::findMinUsingSorted));
+		min.put("findMinUsingIntArray", ListMinimumFinder::findMinUsingIntArray);
+		min.put("findMinUsingVectorApi", ListMinimumFinder::findMinUsingVectorApi);
+		min.put("findMinUsingParallelForkJoin", ListMinimumFinder::findMinUsingParallelForkJoin);
+
+		Map<String, Function<int[], Number>> max = aggregation("max", "findMaxUsingVectorApi");
+		max.put("findMaxUsingMapToInt", boxed(ListMaximumFinder::findMaxUsingMapToInt));
+		max.put("findMaxUsingIntegerCompare", boxed(ListMaximumFinder::findMaxUsingIntegerCompare));
+		max.put("findMaxUsingReduce", boxed(ListMaximumFinder::findMaxUsingReduce));
+		max.put("findMaxUsingComparableCompare", boxed(ListMaximumFinder::findMaxUsingComparableCompare));
+		max.put("findMaxUsingSorted", boxed(ListMaximumFinder::findMaxUsingSorted));
+		max.put("findMaxUsingIntArray", ListMaximumFinder::findMaxUsingIntArray);
+		max.put("findMaxUsingVectorApi", ListMaximumFinder::findMaxUsingVectorApi);
+		max.put("findMaxUsingParallelForkJoin", ListMaximumFinder::findMaxUsingParallelForkJoin);
+
+		Map<String, Function<int[], Number>> average = aggregation("average", "averageUsingIntArray");
+		average.put("averageUsingMapToDouble", boxed(ListAverageFinder::averageUsingMapToDouble));
+		average.put("averageUsingCollectors", boxed(ListAverageFinder::averageUsingCollectors));
+		average.put("averageUsingSummaryStatistics", boxed(ListAverageFinder::averageUsingSummaryStatistics));
+		average.put("averageUsingManualMethod", boxed(ListAverageFinder::averageUsingManualMethod));
+		average.put("averageUsingIntArray", ListAverageFinder::averageUsingIntArray);
+		average.put("averageUsingParallelForkJoin", ListAverageFinder::averageUsingParallelForkJoin);
+		average.put("averageUsingRunningStatistics", ListAverageFinder::averageUsingRunningStatistics);
+
+		Map<String, Function<int[], Number>> countEven = aggregation("countEven", "countEvenNumbersUsingVectorApi");
+		countEven.put("countEvenNumbers", boxed(EvenOddNumberCounter::countEvenNumbers));
+		countEven.put("countEvenAndOddUsingFusedCollector",
+				boxed(list -> EvenOddNumberCounter.countEvenAndOddUsingFusedCollector(list).getEvenCount()));
+		countEven.put("countEvenNumbersUsingVectorApi", EvenOddNumberCounter::countEvenNumbersUsingVectorApi);
+		countEven.put("countEvenNumbersUsingParallelForkJoin", EvenOddNumberCounter::countEvenNumbersUsingParallelForkJoin);
+		countEven.put("countEvenNumbersUsingParityBitmap", EvenOddNumberCounter::countEvenNumbersUsingParityBitmap);
+
+		Map<String, Function<int[], Number>> countOdd = aggregation("countOdd", "countOddNumbersUsingVectorApi");
+		countOdd.put("countOddNumbers", boxed(EvenOddNumberCounter::countOddNumbers));
+		countOdd.put("countEvenAndOddUsingFusedCollector",
+				boxed(list -> EvenOddNumberCounter.countEvenAndOddUsingFusedCollector(list).getOddCount()));
+		countOdd.put("countOddNumbersUsingVectorApi", EvenOddNumberCounter::countOddNumbersUsingVectorApi);
+		countOdd.put("countOddNumbersUsingParallelForkJoin", EvenOddNumberCounter::countOddNumbersUsingParallelForkJoin);
+
+		Map<String, Function<int[], Number>> countPositive = aggregation("countPositive",
+				"countPositiveNumbersUsingVectorApi");
+		countPositive.put("countPositiveNumbers", boxed(PositiveNegativeNumberCounter::countPositiveNumbers));
+		countPositive.put("countSignsUsingFusedCollector",
+				boxed(list -> PositiveNegativeNumberCounter.countSignsUsingFusedCollector(list).getPositiveCount()));
+		countPositive.put("countPositiveNumbersUsingVectorApi",
+				PositiveNegativeNumberCounter::countPositiveNumbersUsingVectorApi);
+		countPositive.put("countPositiveNumbersUsingParallelForkJoin",
+				PositiveNegativeNumberCounter::countPositiveNumbersUsingParallelForkJoin);
+		countPositive.put("countPositiveNumbersUsingSignBitmap",
+				PositiveNegativeNumberCounter::countPositiveNumbersUsingSignBitmap);
+
+		Map<String, Function<int[], Number>> countNegative = aggregation("countNegative",
+				"countNegativeNumbersUsingVectorApi");
+		countNegative.put("countNegativeNumbers", boxed(PositiveNegativeNumberCounter::countNegativeNumbers));
+		countNegative.put("countSignsUsingFusedCollector",
+				boxed(list -> PositiveNegativeNumberCounter.countSignsUsingFusedCollector(list).getNegativeCount()));
+		countNegative.put("countNegativeNumbersUsingVectorApi",
+				PositiveNegativeNumberCounter::countNegativeNumbersUsingVectorApi);
+		countNegative.put("countNegativeNumbersUsingParallelForkJoin",
+				PositiveNegativeNumberCounter::countNegativeNumbersUsingParallelForkJoin);
+		countNegative.put("countNegativeNumbersUsingSignBitmap",
+				PositiveNegativeNumberCounter::countNegativeNumbersUsingSignBitmap);
+
+		Map<String, UnaryOperator<int[]>> ascending = new LinkedHashMap<>();
+		ascending.put("sortWithStream", boxedSort(ListAscendingSorter::sortWithStream));
+		ascending.put("sortWithNaturalOrder", boxedSort(ListAscendingSorter::sortWithNaturalOrder));
+		ascending.put("sortWithCompareTo", boxedSort(ListAscendingSorter::sortWithCompareTo));
+		ascending.put("sortWithCollectionsSort", boxedSort(ListAscendingSorter::sortWithCollectionsSort));
+		ascending.put("sortWithParallelForkJoin", ListAscendingSorter::sortWithParallelForkJoin);
+		ascending.put("sortWithRadixSort", ListAscendingSorter::sortWithRadixSort);
+		SORTS.put("ascending", Collections.unmodifiableMap(ascending));
+
+		Map<String, UnaryOperator<int[]>> descending = new LinkedHashMap<>();
+		descending.put("sortWithDescOrder", boxedSort(ListDescendingSorter::sortWithDescOrder));
+		descending.put("sortWithCustomDescCompare", boxedSort(ListDescendingSorter::sortWithCustomDescCompare));
+		descending.put("sortWithCollectionsReverse", boxedSort(ListDescendingSorter::sortWithCollectionsReverse));
+		descending.put("sortWithParallelForkJoin", ListDescendingSorter::sortWithParallelForkJoin);
+		descending.put("sortWithRadixSort", ListDescendingSorter::sortWithRadixSort);
+		SORTS.put("descending", Collections.unmodifiableMap(descending));
+
+		AGGREGATIONS.replaceAll((name, strategies) -> Collections.unmodifiableMap(strategies));
+	}
+
+	private NumberListStrategies() {
+	}
+
+	/**
+	 * @return aggregation names in registration order (sum, min, max, average, count*)
+	 */
+	public static Set<String> aggregations() {
+		return Collections.unmodifiableSet(AGGREGATIONS.keySet());
+	}
+
+	/**
+	 * @throws IllegalArgumentException for an unknown aggregation
+	 */
+	public static Map<String, Function<int[], Number>> aggregationStrategies(String aggregation) {
+		Map<String, Function<int[], Number>> strategies = AGGREGATIONS.get(aggregation);
+		if (strategies == null) {
+			throw new IllegalArgumentException("Unknown aggregation '" + aggregation + "', expected one of " + aggregations());
+		}
+		return strategies;
+	}
+
+	public static String defaultAggregationStrategy(String aggregation) {
+		aggregationStrategies(aggregation);
+		return DEFAULT_AGGREGATION_STRATEGIES.get(aggregation);
+	}
+
+	/**
+	 * Runs one aggregation strategy.
+	 *
+	 * @throws IllegalArgumentException for an unknown aggregation or strategy
+	 */
+	public static Number aggregate(String aggregation, String strategy, int[] values) {
+		Function<int[], Number> function = lookup(aggregationStrategies(aggregation), aggregation, strategy);
+		return AlgorithmMetrics.record(aggregation, strategy, values.length, () -> function.apply(values));
+	}
+
+	/**
+	 * @return "ascending" and "descending"
+	 */
+	public static Set<String> sortOrders() {
+		return Collections.unmodifiableSet(SORTS.keySet());
+	}
+
+	/**
+	 * @throws IllegalArgumentException for an unknown order
+	 */
+	public static Map<String, UnaryOperator<int[]>> sortStrategies(String order) {
+		Map<String, UnaryOperator<int[]>> strategies = SORTS.get(order);
+		if (strategies == null) {
+			throw new IllegalArgumentException("Unknown sort order '" + order + "', expected one of " + sortOrders());
+		}
+		return strategies;
+	}
+
+	public static String defaultSortStrategy(String order) {
+		sortStrategies(order);
+		return "sortWithRadixSort";
+	}
+
+	/**
+	 * Runs one sort strategy; returns a new sorted array.
+	 *
+	 * @throws IllegalArgumentException for an unknown order or strategy
+	 */
+	public static int[] sort(String order, String strategy, int[] values) {
+		UnaryOperator<int[]> function = lookup(sortStrategies(order), order, strategy);
+		return AlgorithmMetrics.record(sortAlgorithm(order), strategy, values.length, () -> function.apply(values));
+	}
+
+	// Metric tag of a sort order: sortAscending, sortDescending
+	private static String sortAlgorithm(String order) {
+		return "sort" + Character.toUpperCase(order.charAt(0)) + order.substring(1);
+	}
+
+	private static <F> F lookup(Map<String, F> strategies, String operation, String strategy) {
+		F function = strategies.get(strategy);
+		if (function == null) {
+			throw new IllegalArgumentException(
+					"Unknown strategy '" + strategy + "' for " + operation + ", expected one of " + strategies.keySet());
+		}
+		return function;
+	}
+
+	private static Map<String, Function<int[], Number>> aggregation(String name, String defaultStrategy) {
+		Map<String, Function<int[], Number>> strategies = new LinkedHashMap<>();
+		AGGREGATIONS.put(name, strategies);
+		DEFAULT_AGGREGATION_STRATEGIES.put(name, defaultStrategy);
+		return strategies;
+	}
+
+	private static Function<int[], Number> boxed(Function<List<Integer>, ? extends Number> strategy) {
+		return values -> strategy.apply(toList(values));
+	}
+
+	private static UnaryOperator<int[]> boxedSort(Function<List<Integer>, List<Integer>> strategy) {
+		return values -> strategy.apply(toList(values)).stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static List<Integer> toList(int[] values) {
+		List<Integer> list = new ArrayList<>(values.length);
+		for (int value : values) {
+			list.add(value);
+		}
+		return list;
+	}
+
+}
@@ -17,7 +17,7 @@ public class PositiveNegativeNumberCounter {
 	 * ✅ Simple and efficient
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static long countPositiveNumbers(List<Integer> list) {
+	static long countPositiveNumbers(List<Integer> list) {
 		return list.stream()
 				.filter(num -> num > 0)
 				.count();
@@ -29,12 +29,98 @@ public class PositiveNegativeNumberCounter {
 	 * ✅ Simple and efficient
 	 * ✅ Time Complexity: O(n)
 	 */
-	private static long countNegativeNumbers(List<Integer> list) {
+	static long countNegativeNumbers(List<Integer> list) {
 		return list.stream()
 				.filter(num -> num < 0)
 				.count();
 	}
 
+	/**
+	 * Counts positive numbers using Vector API lane masks.
+	 *
+	 * ✅ Processes several ints per instruction via IntVector lanes
+	 * ✅ Falls back to a scalar loop when jdk.incubator.vector is not enabled
+	 * ✅ Time Complexity: O(n)
+	 */
+	static long countPositiveNumbersUsingVectorApi(int[] values) {
+		return IntReductions.countPositive(values);
+	}
+
+	/**
+	 * Counts negative numbers using Vector API lane masks.
+	 *
+	 * ✅ Processes several ints per instruction via IntVector lanes
+	 * ✅ Falls back to a scalar loop when jdk.incubator.vector is not enabled
+	 * ✅ Time Complexity: O(n)
+	 */
+	static long countNegativeNumbersUsingVectorApi(int[] values) {
+		return IntReductions.countNegative(values);
+	}
+
+	/**
+	 * Counts positive, negative and zero values together using the fused NumberListStatistics collector.
+	 *
+	 * ✅ One traversal yields all sign counts (and sum/min/max/parity counts)
+	 * ✅ Time Complexity: O(n)
+	 */
+	static NumberListStatistics countSignsUsingFusedCollector(List<Integer> list) {
+		return list.stream()
+				.collect(NumberListStatistics.collector());
+	}
+
+	/**
+	 * Counts positive numbers with fork-join parallelism.
+	 *
+	 * ✅ Splits across a dedicated ForkJoinPool for large inputs
+	 * ✅ Stays sequential below the size threshold (no fork overhead)
+	 * ✅ Time Complexity: O(n / p)
+	 */
+	static long countPositiveNumbersUsingParallelForkJoin(int[] values) {
+		return ParallelIntOperations.defaultInstance().countPositive(values);
+	}
+
+	/**
+	 * Counts negative numbers with fork-join parallelism.
+	 *
+	 * ✅ Splits across a dedicated ForkJoinPool for large inputs
+	 * ✅ Stays sequential below the size threshold (no fork overhead)
+	 * ✅ Time Complexity: O(n / p)
+	 */
+	static long countNegativeNumbersUsingParallelForkJoin(int[] values) {
+		return ParallelIntOperations.defaultInstance().countNegative(values);
+	}
+
+	/**
+	 * Builds sign bitmaps and counts their bits.
+	 *
+	 * ✅ Branch-free / vectorized classification, 1 bit per value
+	 * ✅ Time Complexity: O(n)
+	 */
+	static long countPositiveNumbersUsingSignBitmap(int[] values) {
+		return IntClassifier.cardinality(IntClassifier.positiveBits(values));
+	}
+
+	/**
+	 * Counts negative numbers from a sign bitmap.
+	 *
+	 * ✅ Branch-free / vectorized classification, 1 bit per value
+	 * ✅ Time Complexity: O(n)
+	 */
+	static long countNegativeNumbersUsingSignBitmap(int[] values) {
+		return IntClassifier.cardinality(IntClassifier.negativeBits(values));
+	}
+
+	/**
+	 * Stably rearranges values into negative, zero and positive regions, in place.
+	 *
+	 * ✅ No extra array (rotation-based merge)
+	 * ✅ Relative order kept within each region
+	 * ⚠️ Time Complexity: O(n log n)
+	 */
+	static int[] partitionBySignInPlace(int[] values) {
+		return IntClassifier.stablePartitionBySign(values);
+	}
+
 	public static void main(String[] args) {
 		try (Scanner scanner = new Scanner(System.in)) {
 			System.out.print("Enter the list of integers (separated by space): ");
@@ -47,9 +133,22 @@ public class PositiveNegativeNumberCounter {
 				return;
 			}
 
+			int[] values = integerList.stream().mapToInt(Integer::intValue).toArray();
 
 			 System.out.println("Count of positive numbers: " + countPositiveNumbers(integerList));
 		     System.out.println("Count of negative numbers: " + countNegativeNumbers(integerList));
+		     System.out.println("Count of positive numbers (Vector API): " + countPositiveNumbersUsingVectorApi(values));
+		     System.out.println("Count of negative numbers (Vector API): " + countNegativeNumbersUsingVectorApi(values));
+
+		     NumberListStatistics statistics = countSignsUsingFusedCollector(integerList);
+		     System.out.println("Count of positive numbers (fused collector): " + statistics.getPositiveCount());
+		     System.out.println("Count of negative numbers (fused collector): " + statistics.getNegativeCount());
+		     System.out.println("Count of zeros (fused collector): " + statistics.getZeroCount());
+		     System.out.println("Count of positive numbers (parallel fork-join): " + countPositiveNumbersUsingParallelForkJoin(values));
+		     System.out.println("Count of negative numbers (parallel fork-join): " + countNegativeNumbersUsingParallelForkJoin(values));
+		     System.out.println("Count of positive numbers (sign bitmap): " + countPositiveNumbersUsingSignBitmap(values));
+		     System.out.println("Count of negative numbers (sign bitmap): " + countNegativeNumbersUsingSignBitmap(values));
+		     System.out.println("Sign region boundaries (stable partition): " + Arrays.toString(partitionBySignInPlace(values.clone())));
 		}
 	}
 
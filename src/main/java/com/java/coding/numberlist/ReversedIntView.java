@@ -0,0 +1,192 @@
+package com.java.coding.numberlist;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * O(1) reversed view over a range of an int[], the primitive counterpart of
+ * {@link List#reversed()}.
+ *
+ * Nothing is copied: {@code get(i)} reads {@code values[to - 1 - i]}, and
+ * the stream walks the backing array from the end. Writes to the backing
+ * array show through the view.
+ *
+ * ✅ O(1) to create, no boxing, no allocation per element
+ * ✅ SIZED/SUBSIZED spliterator, so parallel streams split it evenly
+ * ✅ {@link #reverse(int[], int, int)} reverses in place when a real
+ *    reversed array is needed
+ */
+public final class ReversedIntView {
+
+	private final int[] values;
+	private final int from;
+	private final int to;
+
+	private ReversedIntView(int[] values, int from, int to) {
+		this.values = values;
+		this.from = from;
+		this.to = to;
+	}
+
+	public static ReversedIntView of(int[] values) {
+		return new ReversedIntView(values, 0, values.length);
+	}
+
+	public static ReversedIntView of(int[] values, int from, int to) {
+		Objects.checkFromToIndex(from, to, values.length);
+		return new ReversedIntView(values, from, to);
+	}
+
+	public int size() {
+		return to - from;
+	}
+
+	public int get(int index) {
+		Objects.checkIndex(index, size());
+		return values[to - 1 - index];
+	}
+
+	public void forEach(IntConsumer action) {
+		for (int i = to - 1; i >= from; i--) {
+			action.accept(values[i]);
+		}
+	}
+
+	public Spliterator.OfInt spliterator() {
+		return new ReversedSpliterator(values, from, to);
+	}
+
+	public IntStream stream() {
+		return StreamSupport.intStream(spliterator(), false);
+	}
+
+	public IntStream parallelStream() {
+		return StreamSupport.intStream(spliterator(), true);
+	}
+
+	/**
+	 * Read-only boxed List view, for APIs that need a List&lt;Integer&gt;.
+	 */
+	public List<Integer> asList() {
+		return new BoxedView();
+	}
+
+	/**
+	 * Copies the view into a new array, in reversed order.
+	 */
+	public int[] toArray() {
+		int[] result = new int[size()];
+		for (int i = 0, j = to - 1; j >= from; i++, j--) {
+			result[i] = values[j];
+		}
+		return result;
+	}
+
+	/**
+	 * Reverses values[from, to) in place by swapping mirrored blocks: whole
+	 * vectors (lane order flipped with a shuffle) when the Vector API is
+	 * available, then pairs of ints for the middle.
+	 *
+	 * Time Complexity: O(n)
+	 * Space Complexity: O(1)
+	 */
+	public static void reverse(int[] values, int from, int to) {
+		Objects.checkFromToIndex(from, to, values.length);
+		if (IntReductions.VECTOR_API_AVAILABLE && to - from >= 2 * VectorizedIntReductions.laneCount()) {
+			int swapped = VectorizedIntReductions.reverseBlocks(values, from, to);
+			from += swapped;
+			to -= swapped;
+		}
+		for (int i = from, j = to - 1; i < j; i++, j--) {
+			int tmp = values[i];
+			values[i] = values[j];
+			values[j] = tmp;
+		}
+	}
+
+	public static void reverse(int[] values) {
+		reverse(values, 0, values.length);
+	}
+
+	@Override
+	public String toString() {
+		return asList().toString();
+	}
+
+	private final class BoxedView extends AbstractList<Integer> implements RandomAccess {
+
+		@Override
+		public Integer get(int index) {
+			return ReversedIntView.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return ReversedIntView.this.size();
+		}
+
+	}
+
+	/**
+	 * Walks [origin, index) from the top down. Splitting hands the upper half
+	 * (the first elements in reversed order) to the new spliterator.
+	 */
+	private static final class ReversedSpliterator implements Spliterator.OfInt {
+
+		private final int[] values;
+		private final int origin;
+		private int index;
+
+		ReversedSpliterator(int[] values, int origin, int index) {
+			this.values = values;
+			this.origin = origin;
+			this.index = index;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			if (index > origin) {
+				action.accept(values[--index]);
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			for (int i = index - 1; i >= origin; i--) {
+				action.accept(values[i]);
+			}
+			index = origin;
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int mid = (origin + index) >>> 1;
+			if (mid <= origin) {
+				return null;
+			}
+			ReversedSpliterator prefix = new ReversedSpliterator(values, mid, index);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return index - origin;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | NONNULL;
+		}
+
+	}
+
+}
@@ -0,0 +1,173 @@
+package com.java.coding.numberlist;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Incremental count, sum, mean, variance, min and max for values that
+ * arrive one at a time.
+ *
+ * The mean and the sum of squared deviations (M2) are updated with
+ * Welford's algorithm, which stays numerically stable where the naive
+ * Σx² - (Σx)²/n formula cancels catastrophically. Two partial results merge
+ * exactly with Chan et al.'s pairwise formula, so per-thread or per-chunk
+ * accumulators can be combined in any order.
+ *
+ * Not thread-safe; see {@link ConcurrentRunningStatistics} for concurrent
+ * ingestion and {@link SlidingWindowStatistics} /
+ * {@link TumblingWindowStatistics} for windowed variants.
+ *
+ * ✅ O(1) per value, O(1) memory
+ * ✅ Sum kept exactly in a long
+ */
+public final class RunningStatistics implements IntConsumer {
+
+	private long count;
+	private long sum;
+	private double mean;
+	private double m2;
+	private int min = Integer.MAX_VALUE;
+	private int max = Integer.MIN_VALUE;
+
+	public RunningStatistics() {
+	}
+
+	RunningStatistics(long count, long sum, double mean, double m2, int min, int max) {
+		this.count = count;
+		this.sum = sum;
+		this.mean = mean;
+		this.m2 = m2;
+		this.min = min;
+		this.max = max;
+	}
+
+	public static RunningStatistics of(int[] values) {
+		RunningStatistics statistics = new RunningStatistics();
+		for (int value : values) {
+			statistics.accept(value);
+		}
+		return statistics;
+	}
+
+	@Override
+	public void accept(int value) {
+		count++;
+		sum += value;
+		double delta = value - mean;
+		mean += delta / count;
+		m2 += delta * (value - mean);
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Reverses a previous {@link #accept(int)} of value for count, sum, mean
+	 * and M2. Min and max cannot be un-accepted and are left unchanged; the
+	 * sliding window tracks those separately.
+	 */
+	void remove(int value) {
+		if (count <= 1) {
+			count = 0;
+			sum = 0;
+			mean = 0;
+			m2 = 0;
+			return;
+		}
+		double oldMean = mean;
+		count--;
+		sum -= value;
+		mean = oldMean - (value - oldMean) / count;
+		m2 = Math.max(0.0d, m2 - (value - oldMean) * (value - mean));
+	}
+
+	/**
+	 * Merges other into this (Chan's parallel update).
+	 */
+	public RunningStatistics combine(RunningStatistics other) {
+		if (other.count == 0) {
+			return this;
+		}
+		if (count == 0) {
+			count = other.count;
+			sum = other.sum;
+			mean = other.mean;
+			m2 = other.m2;
+			min = other.min;
+			max = other.max;
+			return this;
+		}
+		long total = count + other.count;
+		double delta = other.mean - mean;
+		mean += delta * other.count / total;
+		m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+		count = total;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+		return this;
+	}
+
+	public RunningStatistics copy() {
+		return new RunningStatistics(count, sum, mean, m2, min, max);
+	}
+
+	/**
+	 * Copy with min and max replaced, for accumulators that track them separately.
+	 */
+	RunningStatistics withRange(int newMin, int newMax) {
+		return new RunningStatistics(count, sum, mean, m2, newMin, newMax);
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getSum() {
+		return sum;
+	}
+
+	/**
+	 * @return the minimum, or Integer.MAX_VALUE if nothing was accepted
+	 */
+	public int getMin() {
+		return min;
+	}
+
+	/**
+	 * @return the maximum, or Integer.MIN_VALUE if nothing was accepted
+	 */
+	public int getMax() {
+		return max;
+	}
+
+	/**
+	 * @return the arithmetic mean, or 0 if nothing was accepted
+	 */
+	public double getMean() {
+		return mean;
+	}
+
+	/**
+	 * @return the population variance, or 0 for fewer than two values
+	 */
+	public double getVariance() {
+		return count > 1 ? m2 / count : 0.0d;
+	}
+
+	/**
+	 * @return the sample (n - 1) variance, or 0 for fewer than two values
+	 */
+	public double getSampleVariance() {
+		return count > 1 ? m2 / (count - 1) : 0.0d;
+	}
+
+	public double getStandardDeviation() {
+		return Math.sqrt(getVariance());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s{count=%d, sum=%d, min=%d, mean=%f, max=%d, variance=%f}",
+				getClass().getSimpleName(), count, sum, min, mean, max, getVariance());
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.java.coding.numberlist;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Running statistics over the most recent {@code windowSize} values.
+ *
+ * Count, sum, mean and variance are updated in O(1) by accepting the new
+ * value and un-accepting the evicted one (Welford in reverse). Min and max
+ * come from monotonic deques of window positions, which is O(1) amortized
+ * per value. After every full turnover of the window the moments are
+ * rebuilt from the ring buffer, so floating-point drift from repeated
+ * removals never accumulates (still O(1) amortized).
+ *
+ * Not thread-safe.
+ *
+ * ✅ O(windowSize) memory, fixed at construction
+ * ✅ Exact min/max and sum, no rescans per value
+ */
+public final class SlidingWindowStatistics implements IntConsumer {
+
+	private final int[] window;
+	private final long[] minDeque;
+	private final long[] maxDeque;
+	private int minHead;
+	private int minSize;
+	private int maxHead;
+	private int maxSize;
+	private long accepted;
+	private RunningStatistics moments = new RunningStatistics();
+
+	public SlidingWindowStatistics(int windowSize) {
+		if (windowSize < 1) {
+			throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+		}
+		window = new int[windowSize];
+		minDeque = new long[windowSize];
+		maxDeque = new long[windowSize];
+	}
+
+	@Override
+	public void accept(int value) {
+		int capacity = window.length;
+		long position = accepted++;
+		int slot = (int) (position % capacity);
+		if (position >= capacity) {
+			moments.remove(window[slot]);
+			long expired = position - capacity;
+			if (minSize > 0 && minDeque[minHead] == expired) {
+				minHead = (minHead + 1) % capacity;
+				minSize--;
+			}
+			if (maxSize > 0 && maxDeque[maxHead] == expired) {
+				maxHead = (maxHead + 1) % capacity;
+				maxSize--;
+			}
+		}
+		window[slot] = value;
+		moments.accept(value);
+
+		// drop positions that can never be the min/max again, then append this one
+		while (minSize > 0 && window[(int) (minDeque[(minHead + minSize - 1) % capacity] % capacity)] >= value) {
+			minSize--;
+		}
+		minDeque[(minHead + minSize++) % capacity] = position;
+		while (maxSize > 0 && window[(int) (maxDeque[(maxHead + maxSize - 1) % capacity] % capacity)] <= value) {
+			maxSize--;
+		}
+		maxDeque[(maxHead + maxSize++) % capacity] = position;
+
+		if (slot == capacity - 1 && position >= capacity) {
+			rebuildMoments();
+		}
+	}
+
+	private void rebuildMoments() {
+		RunningStatistics rebuilt = new RunningStatistics();
+		for (int value : window) {
+			rebuilt.accept(value);
+		}
+		moments = rebuilt;
+	}
+
+	public int getWindowSize() {
+		return window.length;
+	}
+
+	/**
+	 * @return number of values currently in the window
+	 */
+	public long getCount() {
+		return moments.getCount();
+	}
+
+	public long getSum() {
+		return moments.getSum();
+	}
+
+	public double getMean() {
+		return moments.getMean();
+	}
+
+	public double getVariance() {
+		return moments.getVariance();
+	}
+
+	public double getStandardDeviation() {
+		return moments.getStandardDeviation();
+	}
+
+	/**
+	 * @return the minimum in the window, or Integer.MAX_VALUE if empty
+	 */
+	public int getMin() {
+		return minSize > 0 ? window[(int) (minDeque[minHead] % window.length)] : Integer.MAX_VALUE;
+	}
+
+	/**
+	 * @return the maximum in the window, or Integer.MIN_VALUE if empty
+	 */
+	public int getMax() {
+		return maxSize > 0 ? window[(int) (maxDeque[maxHead] % window.length)] : Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Statistics of the current window as a standalone copy.
+	 */
+	public RunningStatistics snapshot() {
+		return moments.withRange(getMin(), getMax());
+	}
+
+	@Override
+	public String toString() {
+		return snapshot().toString();
+	}
+
+}
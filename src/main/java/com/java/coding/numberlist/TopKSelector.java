@@ -0,0 +1,166 @@
+package com.java.coding.numberlist;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.stream.Collectors;
+
+/**
+ * Partial selection over int[]: top-K / bottom-K, k-th element and median,
+ * without sorting the whole input.
+ *
+ * Small K uses a {@link BoundedIntHeap} (O(n log K), no copy of the input);
+ * large K uses introselect on a copy and then sorts only the K selected
+ * values. Introselect is quickselect with median-of-three pivots that falls
+ * back to sorting the remaining range when recursion gets too deep, so the
+ * worst case stays O(n log n).
+ *
+ * ✅ k-th element / median: O(n) expected
+ * ✅ Top-K: O(n log K) or O(n + K log K)
+ */
+public final class TopKSelector {
+
+	// Above n / HEAP_RATIO the heap is slower than select + sort of K values.
+	private static final int HEAP_RATIO = 16;
+
+	private static final int SMALL_RANGE = 16;
+
+	private TopKSelector() {
+	}
+
+	/**
+	 * The K largest values in descending order (fewer if n &lt; K).
+	 */
+	public static int[] topK(int[] values, int k) {
+		return select(values, k, true);
+	}
+
+	/**
+	 * The K smallest values in ascending order (fewer if n &lt; K).
+	 */
+	public static int[] bottomK(int[] values, int k) {
+		return select(values, k, false);
+	}
+
+	/**
+	 * The k-th smallest value (0-based); the input is not modified.
+	 */
+	public static int kthSmallest(int[] values, int k) {
+		if (k < 0 || k >= values.length) {
+			throw new IndexOutOfBoundsException("k: " + k + ", Size: " + values.length);
+		}
+		int[] copy = values.clone();
+		selectInPlace(copy, k);
+		return copy[k];
+	}
+
+	/**
+	 * Lower median for even lengths; the input is not modified.
+	 */
+	public static int median(int[] values) {
+		if (values.length == 0) {
+			throw new NoSuchElementException("No value present");
+		}
+		return kthSmallest(values, (values.length - 1) / 2);
+	}
+
+	/**
+	 * Rearranges values so that values[k] holds the k-th smallest, everything
+	 * before it is &lt;= and everything after it is &gt;=.
+	 */
+	public static void selectInPlace(int[] values, int k) {
+		int from = 0;
+		int to = values.length - 1;
+		int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(values.length));
+		while (to - from > SMALL_RANGE) {
+			if (depthLimit-- == 0) {
+				Arrays.sort(values, from, to + 1);
+				return;
+			}
+			int pivot = medianOfThree(values[from], values[(from + to) >>> 1], values[to]);
+
+			// Three-way partition: [from, lt) < pivot, [lt, gt] == pivot, (gt, to] > pivot
+			int lt = from;
+			int gt = to;
+			int i = from;
+			while (i <= gt) {
+				int value = values[i];
+				if (value < pivot) {
+					swap(values, lt++, i++);
+				} else if (value > pivot) {
+					swap(values, i, gt--);
+				} else {
+					i++;
+				}
+			}
+			if (k < lt) {
+				to = lt - 1;
+			} else if (k > gt) {
+				from = gt + 1;
+			} else {
+				return;
+			}
+		}
+		Arrays.sort(values, from, to + 1);
+	}
+
+	private static int[] select(int[] values, int k, boolean largest) {
+		if (k < 0) {
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		}
+		int n = values.length;
+		k = Math.min(k, n);
+		if (k <= n / HEAP_RATIO) {
+			BoundedIntHeap heap = largest ? BoundedIntHeap.largest(k) : BoundedIntHeap.smallest(k);
+			heap.acceptAll(values);
+			return heap.toSortedArray();
+		}
+		int[] copy = values.clone();
+		if (k < n) {
+			selectInPlace(copy, largest ? n - k : k - 1);
+		}
+		int[] result = new int[k];
+		System.arraycopy(copy, largest ? n - k : 0, result, 0, k);
+		if (largest) {
+			IntSorter.sortDescending(result);
+		} else {
+			IntSorter.sort(result);
+		}
+		return result;
+	}
+
+	private static int medianOfThree(int a, int b, int c) {
+		return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+	}
+
+	private static void swap(int[] values, int i, int j) {
+		int temp = values[i];
+		values[i] = values[j];
+		values[j] = temp;
+	}
+
+	public static void main(String[] args) {
+		try (Scanner scanner = new Scanner(System.in)) {
+			System.out.print("Enter the list of integers (separated by space): ");
+			List<Integer> integerList = Arrays.stream(scanner.nextLine().trim().split("\\s+"))
+					.map(Integer::parseInt)
+					.collect(Collectors.toList());
+
+			if (integerList.isEmpty()) {
+				System.out.println("No integers provided.");
+				return;
+			}
+
+			System.out.print("Enter K: ");
+			int k = scanner.nextInt();
+
+			int[] values = integerList.stream().mapToInt(Integer::intValue).toArray();
+
+			System.out.println("Top " + k + ": " + Arrays.toString(topK(values, k)));
+			System.out.println("Bottom " + k + ": " + Arrays.toString(bottomK(values, k)));
+			System.out.println("Median: " + median(values));
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.java.coding.numberlist;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Running statistics over consecutive, non-overlapping windows of
+ * {@code windowSize} values.
+ *
+ * Each completed window is handed to the listener as its own
+ * {@link RunningStatistics} and accumulation starts afresh; the partial
+ * window in progress is available via {@link #current()}. Completed windows
+ * can be merged with {@link RunningStatistics#combine(RunningStatistics)}
+ * for coarser roll-ups.
+ *
+ * Not thread-safe; the listener runs on the accepting thread.
+ *
+ * ✅ O(1) per value and O(1) memory (no value buffer)
+ */
+public final class TumblingWindowStatistics implements IntConsumer {
+
+	private final int windowSize;
+	private final Consumer<RunningStatistics> listener;
+	private RunningStatistics current = new RunningStatistics();
+
+	public TumblingWindowStatistics(int windowSize, Consumer<RunningStatistics> listener) {
+		if (windowSize < 1) {
+			throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+		}
+		this.windowSize = windowSize;
+		this.listener = Objects.requireNonNull(listener, "listener");
+	}
+
+	@Override
+	public void accept(int value) {
+		current.accept(value);
+		if (current.getCount() == windowSize) {
+			RunningStatistics completed = current;
+			current = new RunningStatistics();
+			listener.accept(completed);
+		}
+	}
+
+	/**
+	 * Emits the partial window (if any) to the listener and starts a new one.
+	 */
+	public void flush() {
+		if (current.getCount() > 0) {
+			RunningStatistics partial = current;
+			current = new RunningStatistics();
+			listener.accept(partial);
+		}
+	}
+
+	/**
+	 * Copy of the window in progress.
+	 */
+	public RunningStatistics current() {
+		return current.copy();
+	}
+
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+}
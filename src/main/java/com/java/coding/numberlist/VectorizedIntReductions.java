@@ -0,0 +1,224 @@
+package com.java.coding.numberlist;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD reductions over int[] using the incubating Vector API.
+ *
+ * Each method processes {@code SPECIES.length()} ints per step and finishes
+ * the array with a masked load instead of a scalar tail loop.
+ *
+ * Only reachable through {@link IntReductions}, which checks that the
+ * jdk.incubator.vector module is present before loading this class.
+ */
+final class VectorizedIntReductions {
+
+	private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+	// Same bit size as SPECIES, so one int vector widens into two long vectors.
+	private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+	private static final VectorShuffle<Integer> REVERSE_LANES = VectorShuffle.fromOp(SPECIES,
+			lane -> SPECIES.length() - 1 - lane);
+
+	private VectorizedIntReductions() {
+	}
+
+	static int laneCount() {
+		return SPECIES.length();
+	}
+
+	/**
+	 * Lanes are widened to long before adding, so the result never overflows.
+	 */
+	static long sum(int[] values) {
+		LongVector acc = LongVector.zero(LONG_SPECIES);
+		int i = 0;
+		int bound = SPECIES.loopBound(values.length);
+		for (; i < bound; i += SPECIES.length()) {
+			acc = addWidened(acc, IntVector.fromArray(SPECIES, values, i));
+		}
+		if (i < values.length) {
+			VectorMask<Integer> tail = SPECIES.indexInRange(i, values.length);
+			acc = addWidened(acc, IntVector.fromArray(SPECIES, values, i, tail)); // masked lanes load as 0
+		}
+		return acc.reduceLanes(VectorOperators.ADD);
+	}
+
+	static int min(int[] values) {
+		return reduce(values, VectorOperators.MIN, Integer.MAX_VALUE);
+	}
+
+	static int max(int[] values) {
+		return reduce(values, VectorOperators.MAX, Integer.MIN_VALUE);
+	}
+
+	static long countEven(int[] values) {
+		long count = 0;
+		int i = 0;
+		int bound = SPECIES.loopBound(values.length);
+		for (; i < bound; i += SPECIES.length()) {
+			count += IntVector.fromArray(SPECIES, values, i)
+					.and(1)
+					.compare(VectorOperators.EQ, 0)
+					.trueCount();
+		}
+		if (i < values.length) {
+			VectorMask<Integer> tail = SPECIES.indexInRange(i, values.length);
+			count += IntVector.fromArray(SPECIES, values, i, tail)
+					.and(1)
+					.compare(VectorOperators.EQ, 0)
+					.and(tail)
+					.trueCount();
+		}
+		return count;
+	}
+
+	static long countPositive(int[] values) {
+		return countCompare(values, VectorOperators.GT);
+	}
+
+	static long countNegative(int[] values) {
+		return countCompare(values, VectorOperators.LT);
+	}
+
+	private static long countCompare(int[] values, VectorOperators.Comparison comparison) {
+		long count = 0;
+		int i = 0;
+		int bound = SPECIES.loopBound(values.length);
+		for (; i < bound; i += SPECIES.length()) {
+			count += IntVector.fromArray(SPECIES, values, i)
+					.compare(comparison, 0)
+					.trueCount();
+		}
+		if (i < values.length) {
+			VectorMask<Integer> tail = SPECIES.indexInRange(i, values.length);
+			count += IntVector.fromArray(SPECIES, values, i, tail)
+					.compare(comparison, 0, tail)
+					.trueCount();
+		}
+		return count;
+	}
+
+	/*
+	 * Bitmap writers: bit i of word i / 64 is set where the lane test holds for
+	 * values[i]. Each 64-value word is assembled from the vector masks'
+	 * toLong() bit patterns; a lane count is a power of two <= 64, so vectors
+	 * never straddle a word. The comparison is spelled out in each loop because
+	 * C2 only intrinsifies the vector ops when the operator is a constant.
+	 */
+
+	static void evenBits(int[] values, long[] bits) {
+		int fullWords = values.length >>> 6;
+		for (int word = 0; word < fullWords; word++) {
+			int base = word << 6;
+			long packed = 0;
+			for (int offset = 0; offset < Long.SIZE; offset += SPECIES.length()) {
+				packed |= IntVector.fromArray(SPECIES, values, base + offset).and(1).compare(VectorOperators.EQ, 0).toLong() << offset;
+			}
+			bits[word] = packed;
+		}
+		tailBits(values, bits, fullWords, true, VectorOperators.EQ);
+	}
+
+	static void negativeBits(int[] values, long[] bits) {
+		int fullWords = values.length >>> 6;
+		for (int word = 0; word < fullWords; word++) {
+			int base = word << 6;
+			long packed = 0;
+			for (int offset = 0; offset < Long.SIZE; offset += SPECIES.length()) {
+				packed |= IntVector.fromArray(SPECIES, values, base + offset).compare(VectorOperators.LT, 0).toLong() << offset;
+			}
+			bits[word] = packed;
+		}
+		tailBits(values, bits, fullWords, false, VectorOperators.LT);
+	}
+
+	static void positiveBits(int[] values, long[] bits) {
+		int fullWords = values.length >>> 6;
+		for (int word = 0; word < fullWords; word++) {
+			int base = word << 6;
+			long packed = 0;
+			for (int offset = 0; offset < Long.SIZE; offset += SPECIES.length()) {
+				packed |= IntVector.fromArray(SPECIES, values, base + offset).compare(VectorOperators.GT, 0).toLong() << offset;
+			}
+			bits[word] = packed;
+		}
+		tailBits(values, bits, fullWords, false, VectorOperators.GT);
+	}
+
+	static void zeroBits(int[] values, long[] bits) {
+		int fullWords = values.length >>> 6;
+		for (int word = 0; word < fullWords; word++) {
+			int base = word << 6;
+			long packed = 0;
+			for (int offset = 0; offset < Long.SIZE; offset += SPECIES.length()) {
+				packed |= IntVector.fromArray(SPECIES, values, base + offset).compare(VectorOperators.EQ, 0).toLong() << offset;
+			}
+			bits[word] = packed;
+		}
+		tailBits(values, bits, fullWords, false, VectorOperators.EQ);
+	}
+
+	private static void tailBits(int[] values, long[] bits, int word, boolean lowBitOnly,
+			VectorOperators.Comparison comparison) {
+		int base = word << 6;
+		if (base == values.length) {
+			return;
+		}
+		long packed = 0;
+		for (int i = base; i < values.length; i += SPECIES.length()) {
+			VectorMask<Integer> tail = SPECIES.indexInRange(i, values.length);
+			IntVector vector = IntVector.fromArray(SPECIES, values, i, tail);
+			packed |= (lowBitOnly ? vector.and(1) : vector).compare(comparison, 0).and(tail).toLong() << (i - base);
+		}
+		bits[word] = packed;
+	}
+
+	/**
+	 * Swaps mirrored whole vectors from both ends of values[from, to),
+	 * flipping lane order with a shuffle.
+	 *
+	 * @return how many ints were placed at each end; the caller finishes the middle
+	 */
+	static int reverseBlocks(int[] values, int from, int to) {
+		int lanes = SPECIES.length();
+		int lo = from;
+		int hi = to;
+		while (hi - lo >= 2 * lanes) {
+			IntVector head = IntVector.fromArray(SPECIES, values, lo);
+			IntVector tail = IntVector.fromArray(SPECIES, values, hi - lanes);
+			tail.rearrange(REVERSE_LANES).intoArray(values, lo);
+			head.rearrange(REVERSE_LANES).intoArray(values, hi - lanes);
+			lo += lanes;
+			hi -= lanes;
+		}
+		return lo - from;
+	}
+
+	private static int reduce(int[] values, VectorOperators.Associative op, int identity) {
+		IntVector acc = IntVector.broadcast(SPECIES, identity);
+		int i = 0;
+		int bound = SPECIES.loopBound(values.length);
+		for (; i < bound; i += SPECIES.length()) {
+			acc = acc.lanewise(op, IntVector.fromArray(SPECIES, values, i));
+		}
+		if (i < values.length) {
+			VectorMask<Integer> tail = SPECIES.indexInRange(i, values.length);
+			acc = acc.lanewise(op, IntVector.fromArray(SPECIES, values, i, tail), tail);
+		}
+		return acc.reduceLanes(op);
+	}
+
+	private static LongVector addWidened(LongVector acc, IntVector vector) {
+		LongVector low = (LongVector) vector.convertShape(VectorOperators.I2L, LONG_SPECIES, 0);
+		LongVector high = (LongVector) vector.convertShape(VectorOperators.I2L, LONG_SPECIES, 1);
+		return acc.add(low).add(high);
+	}
+
+}
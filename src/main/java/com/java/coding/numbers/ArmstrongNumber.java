@@ -27,6 +27,20 @@ public class ArmstrongNumber {
 		return sum == number;
 	}
 
+	/**
+	 * Checks Armstrong numbers with an exact long power table instead of
+	 * Math.pow, so results stay correct for 17 and 18 digit inputs.
+	 *
+	 * ✅ No floating point rounding
+	 * ✅ Two digits per step via {@link DigitKernel}
+	 * ✅ Range enumeration up to 10^18 via {@link ArmstrongNumberFinder#armstrongNumbers(long, long)}
+	 *
+	 * Time Complexity: O(d)
+	 */
+	public static boolean isArmstrongUsingPowerTable(long number) {
+		return DigitKernel.isArmstrong(number);
+	}
+
 	public static void main(String[] args) {
 		Scanner sc = new Scanner(System.in);
 
@@ -35,6 +49,7 @@ public class ArmstrongNumber {
 
 		System.out
 				.println("Number " + (isArmstrong(number) ? "is an Armstrong number." : "is NOT an Armstrong number."));
+		System.out.println("Using power table: " + isArmstrongUsingPowerTable(number));
 		sc.close();
 	}
 
@@ -0,0 +1,174 @@
+package com.java.coding.numbers;
+
+import java.util.Arrays;
+import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Enumerates Armstrong (narcissistic) numbers in a range up to 10^18.
+ *
+ * Testing every number is hopeless at this scale, but the digit-power sum
+ * only depends on which digits occur, not their order. So for each length k
+ * the finder walks every multiset of k digits (C(k + 9, 9) of them, 4.7M for
+ * k = 18 instead of 9 * 10^17 numbers). It computes Σ count(d) * d^k from a
+ * precomputed long table and keeps the sum when its own digits form the same
+ * multiset.
+ *
+ * Lengths and, within a length, the number of 9s are explored as parallel
+ * tasks. Each length's result is cached; it is computed outside the map, so
+ * no worker blocks on a map bin while another length is searched.
+ *
+ * ✅ Exact long arithmetic (no Math.pow)
+ * ✅ All 18-digit lengths in about a second on one core
+ */
+public final class ArmstrongNumberFinder {
+
+	public static final long MAX_UPPER_BOUND = 1_000_000_000_000_000_000L;
+
+	private static final int MAX_LENGTH = 18;
+
+	// POWERS[k][d] = d^k
+	private static final long[][] POWERS = new long[MAX_LENGTH + 1][10];
+
+	static {
+		for (int k = 0; k <= MAX_LENGTH; k++) {
+			for (int d = 0; d < 10; d++) {
+				long power = 1;
+				for (int i = 0; i < k; i++) {
+					power *= d;
+				}
+				POWERS[k][d] = power;
+			}
+		}
+	}
+
+	private static final long[] POWERS_OF_TEN = new long[MAX_LENGTH + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i <= MAX_LENGTH; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	private static final ConcurrentHashMap<Integer, long[]> BY_LENGTH = new ConcurrentHashMap<>();
+
+	private ArmstrongNumberFinder() {
+	}
+
+	/**
+	 * All Armstrong numbers in [lo, hi], ascending.
+	 *
+	 * @throws IllegalArgumentException if hi &gt; 10^18
+	 */
+	public static LongStream armstrongNumbers(long lo, long hi) {
+		if (hi > MAX_UPPER_BOUND) {
+			throw new IllegalArgumentException("Upper bound must not exceed 10^18: " + hi);
+		}
+		long from = Math.max(lo, 1);
+		if (from > hi) {
+			return LongStream.empty();
+		}
+		int minLength = DigitKernel.digitCount(from);
+		int maxLength = Math.min(DigitKernel.digitCount(hi), MAX_LENGTH);
+		IntStream.rangeClosed(minLength, maxLength).parallel().forEach(ArmstrongNumberFinder::ofLength);
+		return IntStream.rangeClosed(minLength, maxLength)
+				.mapToObj(ArmstrongNumberFinder::ofLength)
+				.flatMapToLong(Arrays::stream)
+				.filter(n -> n >= from && n <= hi);
+	}
+
+	/**
+	 * Number of Armstrong numbers in [lo, hi].
+	 */
+	public static long count(long lo, long hi) {
+		return armstrongNumbers(lo, hi).count();
+	}
+
+	/**
+	 * Exact single-number check, see {@link DigitKernel#isArmstrong(long)}.
+	 */
+	public static boolean isArmstrong(long number) {
+		return DigitKernel.isArmstrong(number);
+	}
+
+	private static long[] ofLength(int k) {
+		long[] cached = BY_LENGTH.get(k);
+		if (cached != null) {
+			return cached;
+		}
+		// A racing duplicate search gives the same array; the first one stored wins
+		long[] computed = searchLength(k);
+		cached = BY_LENGTH.putIfAbsent(k, computed);
+		return cached != null ? cached : computed;
+	}
+
+	private static long[] searchLength(int length) {
+		return IntStream.rangeClosed(0, length)
+				.parallel()
+				.mapToObj(nines -> {
+					int[] counts = new int[10];
+					counts[9] = nines;
+					LongStream.Builder found = LongStream.builder();
+					search(length, 8, length - nines, nines * POWERS[length][9], counts, found);
+					return found.build().toArray();
+				})
+				.flatMapToLong(Arrays::stream)
+				.sorted()
+				.toArray();
+	}
+
+	/**
+	 * Chooses how many times digit appears (then digit - 1, ...), with
+	 * remaining digits still to place and sum the power sum so far.
+	 */
+	private static void search(int k, int digit, int remaining, long sum, int[] counts, LongStream.Builder found) {
+		long upper = POWERS_OF_TEN[k];
+		if (sum >= upper) {
+			return; // too many digits already
+		}
+		if (digit == 0) {
+			counts[0] = remaining;
+			if (sum >= POWERS_OF_TEN[k - 1] && hasDigitCounts(sum, counts)) {
+				found.add(sum);
+			}
+			counts[0] = 0;
+			return;
+		}
+		long power = POWERS[k][digit];
+		for (int c = 0; c <= remaining; c++) {
+			long next = sum + c * power;
+			if (next >= upper) {
+				break;
+			}
+			counts[digit] = c;
+			search(k, digit - 1, remaining - c, next, counts, found);
+		}
+		counts[digit] = 0;
+	}
+
+	private static boolean hasDigitCounts(long number, int[] counts) {
+		int[] actual = new int[10];
+		for (long temp = number; temp > 0; temp /= 10) {
+			actual[(int) (temp % 10)]++;
+		}
+		return Arrays.equals(actual, counts);
+	}
+
+	public static void main(String[] args) {
+		Scanner sc = new Scanner(System.in);
+
+		System.out.print("Enter the lower bound of the range: ");
+		long lo = sc.nextLong();
+		System.out.print("Enter the upper bound of the range (at most 10^18): ");
+		long hi = sc.nextLong();
+
+		System.out.print("Armstrong numbers in range: ");
+		armstrongNumbers(lo, hi).forEach(n -> System.out.print(n + " "));
+		System.out.println();
+		sc.close();
+	}
+
+}
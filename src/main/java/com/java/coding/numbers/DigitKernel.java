@@ -0,0 +1,263 @@
+package com.java.coding.numbers;
+
+/**
+ * Allocation-free decimal digit operations shared by {@link NumberOfDigits},
+ * {@link ReverseNumber}, {@link PalindromeNumber} and {@link ArmstrongNumber}.
+ *
+ * Instead of one {@code % 10} / {@code / 10} pair per digit, every operation
+ * consumes several digits per step from small lookup tables:
+ *
+ * ✅ Digit count from the bit length and one comparison (no loop)
+ * ✅ Digit sum four digits at a time from a 10000-entry table
+ * ✅ Reverse and Armstrong power sums two digits at a time from 100-entry tables
+ * ✅ Batch variants over long[] write into caller-supplied arrays
+ * ⚠️ Negative inputs: digitCount and digitSum use the magnitude (the sum keeps
+ *    the sign, like {@code NumberOfDigits}); reverse keeps the sign;
+ *    negatives are never palindromes or Armstrong numbers
+ */
+public final class DigitKernel {
+
+	private static final int MAX_DIGITS = 19;
+
+	// POWERS_OF_TEN[i] = 10^i for i in 0..18
+	private static final long[] POWERS_OF_TEN = new long[MAX_DIGITS];
+
+	// DIGITS_FOR_BIT_LENGTH[b] = digit count of 2^(b - 1), the smallest value with bit length b
+	private static final byte[] DIGITS_FOR_BIT_LENGTH = new byte[64];
+
+	// DIGIT_SUM[n] = sum of the decimal digits of n, n < 10000
+	private static final byte[] DIGIT_SUM = new byte[10_000];
+
+	// REVERSED[n] = digits of the two-digit pair n (00..99) swapped
+	private static final byte[] REVERSED = new byte[100];
+
+	// POWER_SUM[k][n] = a^k + b^k for the two-digit pair n = 10a + b
+	private static final long[][] POWER_SUM = new long[MAX_DIGITS + 1][100];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < MAX_DIGITS; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+		DIGITS_FOR_BIT_LENGTH[0] = 1;
+		for (int b = 1; b < 64; b++) {
+			DIGITS_FOR_BIT_LENGTH[b] = (byte) Long.toString(1L << (b - 1)).length();
+		}
+		for (int n = 0; n < DIGIT_SUM.length; n++) {
+			DIGIT_SUM[n] = (byte) (n % 10 + n / 10 % 10 + n / 100 % 10 + n / 1000);
+		}
+		for (int n = 0; n < 100; n++) {
+			REVERSED[n] = (byte) (n % 10 * 10 + n / 10);
+		}
+		for (int k = 0; k <= MAX_DIGITS; k++) {
+			long[] power = new long[10];
+			for (int d = 0; d < 10; d++) {
+				long p = 1;
+				for (int i = 0; i < k; i++) {
+					p *= d;
+				}
+				power[d] = p;
+			}
+			for (int n = 0; n < 100; n++) {
+				POWER_SUM[k][n] = power[n / 10] + power[n % 10];
+			}
+		}
+	}
+
+	private DigitKernel() {
+	}
+
+	/**
+	 * Number of decimal digits in |number| (1 for 0).
+	 *
+	 * Time Complexity: O(1)
+	 */
+	public static int digitCount(long number) {
+		if (number < 0) {
+			if (number == Long.MIN_VALUE) {
+				return MAX_DIGITS;
+			}
+			number = -number;
+		}
+		int bits = 64 - Long.numberOfLeadingZeros(number);
+		int digits = DIGITS_FOR_BIT_LENGTH[bits];
+		return digits < MAX_DIGITS && number >= POWERS_OF_TEN[digits] ? digits + 1 : digits;
+	}
+
+	/**
+	 * Sum of the decimal digits, negated for negative inputs.
+	 *
+	 * Time Complexity: O(d / 4)
+	 */
+	public static long digitSum(long number) {
+		if (number < 0) {
+			// peel one block first so the remaining magnitude always fits in a long
+			return -(DIGIT_SUM[(int) -(number % 10_000)] + digitSum(-(number / 10_000)));
+		}
+		long sum = 0;
+		while (number != 0) {
+			sum += DIGIT_SUM[(int) (number % 10_000)];
+			number /= 10_000;
+		}
+		return sum;
+	}
+
+	/**
+	 * Reverses the decimal digits, keeping the sign.
+	 *
+	 * @throws ArithmeticException if the reversed value does not fit in a long
+	 */
+	public static long reverse(long number) {
+		if (number < 0) {
+			if (number > -POWERS_OF_TEN[MAX_DIGITS - 1]) {
+				return -reverseUnchecked(-number);
+			}
+			// stay negative so both Long.MIN_VALUE as input and as result work
+			return Math.subtractExact(-reverseUnchecked(-(number / 10)), -(number % 10) * POWERS_OF_TEN[MAX_DIGITS - 1]);
+		}
+		if (number < POWERS_OF_TEN[MAX_DIGITS - 1]) {
+			return reverseUnchecked(number);
+		}
+		// 19 digits: the last digit moves to the 10^18 place, only that step can overflow
+		return Math.addExact(number % 10 * POWERS_OF_TEN[MAX_DIGITS - 1], reverseUnchecked(number / 10));
+	}
+
+	/**
+	 * Two-digit-per-step reversal of a non-negative number with at most 18 digits.
+	 */
+	private static long reverseUnchecked(long number) {
+		long reversed = 0;
+		while (number >= 10) {
+			reversed = reversed * 100 + REVERSED[(int) (number % 100)];
+			number /= 100;
+		}
+		return number == 0 ? reversed : reversed * 10 + number;
+	}
+
+	/**
+	 * Palindrome test without Strings or a full-width reversal.
+	 *
+	 * Time Complexity: O(d / 2)
+	 */
+	public static boolean isPalindrome(long number) {
+		if (number < 0 || (number % 10 == 0 && number != 0)) {
+			return false;
+		}
+		if (number < POWERS_OF_TEN[MAX_DIGITS - 1]) {
+			return reverseUnchecked(number) == number;
+		}
+		// 19 digits: reverse(number) = last * 10^18 + reverse(number / 10), no overflow needed
+		return number / POWERS_OF_TEN[MAX_DIGITS - 1] == number % 10
+				&& reverseUnchecked(number / 10) == number % POWERS_OF_TEN[MAX_DIGITS - 1];
+	}
+
+	/**
+	 * Armstrong test with exact long arithmetic, two digits per step.
+	 *
+	 * Time Complexity: O(d / 2)
+	 */
+	public static boolean isArmstrong(long number) {
+		if (number < 0) {
+			return false;
+		}
+		long[] powerSum = POWER_SUM[digitCount(number)];
+		long sum = 0;
+		for (long temp = number; temp != 0; temp /= 100) {
+			// a pair sum is at most 2 * 9^19 < 2^62, so overflow shows as a negative sum
+			sum += powerSum[(int) (temp % 100)];
+			if (sum > number || sum < 0) {
+				return false;
+			}
+		}
+		// leading pair "0d" adds 0^k, which is 0 for k >= 1
+		return sum == number;
+	}
+
+	/**
+	 * Writes digitCount(values[i]) into counts[i].
+	 */
+	public static void digitCounts(long[] values, int[] counts) {
+		checkLength(values.length, counts.length);
+		for (int i = 0; i < values.length; i++) {
+			counts[i] = digitCount(values[i]);
+		}
+	}
+
+	/**
+	 * Writes digitSum(values[i]) into sums[i].
+	 */
+	public static void digitSums(long[] values, long[] sums) {
+		checkLength(values.length, sums.length);
+		for (int i = 0; i < values.length; i++) {
+			sums[i] = digitSum(values[i]);
+		}
+	}
+
+	/**
+	 * Writes reverse(values[i]) into reversed[i]. Entries that overflow are set
+	 * to 0 (a non-zero input never reverses to 0) instead of throwing.
+	 *
+	 * @return the number of entries that overflowed
+	 */
+	public static int reverseAll(long[] values, long[] reversed) {
+		checkLength(values.length, reversed.length);
+		int overflows = 0;
+		for (int i = 0; i < values.length; i++) {
+			long value = values[i];
+			if (value > -POWERS_OF_TEN[MAX_DIGITS - 1] && value < POWERS_OF_TEN[MAX_DIGITS - 1]) {
+				reversed[i] = value < 0 ? -reverseUnchecked(-value) : reverseUnchecked(value);
+				continue;
+			}
+			try {
+				reversed[i] = reverse(value);
+			} catch (ArithmeticException e) {
+				reversed[i] = 0;
+				overflows++;
+			}
+		}
+		return overflows;
+	}
+
+	/**
+	 * Writes isPalindrome(values[i]) into palindromes[i].
+	 *
+	 * @return the number of palindromes
+	 */
+	public static int palindromes(long[] values, boolean[] palindromes) {
+		checkLength(values.length, palindromes.length);
+		int count = 0;
+		for (int i = 0; i < values.length; i++) {
+			boolean palindrome = isPalindrome(values[i]);
+			palindromes[i] = palindrome;
+			if (palindrome) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Writes isArmstrong(values[i]) into armstrong[i].
+	 *
+	 * @return the number of Armstrong numbers
+	 */
+	public static int armstrongNumbers(long[] values, boolean[] armstrong) {
+		checkLength(values.length, armstrong.length);
+		int count = 0;
+		for (int i = 0; i < values.length; i++) {
+			boolean match = isArmstrong(values[i]);
+			armstrong[i] = match;
+			if (match) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static void checkLength(int expected, int actual) {
+		if (actual < expected) {
+			throw new IllegalArgumentException("Output array too short: " + actual + " < " + expected);
+		}
+	}
+
+}
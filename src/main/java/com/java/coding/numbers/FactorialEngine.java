@@ -0,0 +1,231 @@
+package com.java.coding.numbers;
+
+import java.math.BigInteger;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.java.coding.cache.CacheBuilder;
+import com.java.coding.cache.CacheRegistry;
+import com.java.coding.cache.ComputationCache;
+import com.java.coding.cache.SnapshotCodec;
+import com.java.coding.cache.Weigher;
+
+/**
+ * Subquadratic factorial engine.
+ *
+ * FactorialNumber multiplies a growing BigInteger by one small number at a
+ * time, so almost every multiplication is lopsided and the total cost is
+ * quadratic. This engine keeps both operands of each multiplication about
+ * the same size, which lets BigInteger switch to Karatsuba / Toom-Cook:
+ *
+ * 1. {@link #binarySplitting(int)}: balanced product tree over 1..n, with
+ *    leaves packed into longs until they would overflow.
+ * 2. {@link #primeSwing(int)}: Luschny's prime swing, n! = ((n/2)!)² * swing(n),
+ *    where swing(n) is a product of prime powers taken from a sieve.
+ * 3. {@link #parallelBinarySplitting(int)}: the product tree on ForkJoin,
+ *    with BigInteger.parallelMultiply for the top-level products.
+ * 4. {@link #factorial(int)}: prime swing plus a size-bounded cache of
+ *    results and checkpoint factorials (multiples of 1000), so repeated
+ *    queries are free and nearby ones only multiply the tail.
+ */
+public final class FactorialEngine {
+
+	private static final long[] SMALL_FACTORIALS = new long[21];
+
+	static {
+		SMALL_FACTORIALS[0] = 1;
+		for (int i = 1; i < SMALL_FACTORIALS.length; i++) {
+			SMALL_FACTORIALS[i] = SMALL_FACTORIALS[i - 1] * i;
+		}
+	}
+
+	private static final int LEAF_SIZE = 32;
+	private static final int PARALLEL_THRESHOLD = 2_000;
+	private static final int CHECKPOINT_INTERVAL = 1_000;
+	private static final long MAX_CACHE_BYTES = 64L << 20;
+
+	// Results and checkpoints share one cache, weighted by their size. Two
+	// segments, so a result of up to half the budget is cacheable on any host.
+	private static final ComputationCache<Integer, BigInteger> CACHE = CacheRegistry.register("factorial",
+			CacheBuilder.<Integer, BigInteger>newBuilder().maximumWeight(MAX_CACHE_BYTES, Weigher.bigIntegerBytes())
+					.concurrencyLevel(2)
+					.build(),
+			SnapshotCodec.INTEGER, SnapshotCodec.BIG_INTEGER);
+
+	private FactorialEngine() {
+	}
+
+	/**
+	 * Cached n!; a miss starts from the nearest checkpoint below n, computing
+	 * (and caching) that checkpoint with the prime swing method if needed.
+	 */
+	public static BigInteger factorial(int n) {
+		requireNonNegative(n);
+		if (n < SMALL_FACTORIALS.length) {
+			return BigInteger.valueOf(SMALL_FACTORIALS[n]);
+		}
+		return CACHE.get(n, FactorialEngine::fromCheckpoint);
+	}
+
+	/**
+	 * The factorial result and checkpoint cache (n -&gt; n!).
+	 */
+	public static ComputationCache<Integer, BigInteger> cache() {
+		return CACHE;
+	}
+
+	private static BigInteger fromCheckpoint(int n) {
+		int checkpoint = n - n % CHECKPOINT_INTERVAL;
+		if (checkpoint < CHECKPOINT_INTERVAL || checkpoint == n) {
+			return primeSwing(n);
+		}
+		return CACHE.get(checkpoint, FactorialEngine::primeSwing).multiply(product(checkpoint + 1L, n));
+	}
+
+	/**
+	 * n! as a balanced product tree over 1..n.
+	 */
+	public static BigInteger binarySplitting(int n) {
+		requireNonNegative(n);
+		return n < 2 ? BigInteger.ONE : product(2, n);
+	}
+
+	/**
+	 * n! as a product tree evaluated on the common ForkJoinPool.
+	 */
+	public static BigInteger parallelBinarySplitting(int n) {
+		requireNonNegative(n);
+		return n < 2 ? BigInteger.ONE : ForkJoinPool.commonPool().invoke(new ProductTask(2, n));
+	}
+
+	/**
+	 * n! via the prime swing: n! = ((n/2)!)² * swing(n), recursively.
+	 */
+	public static BigInteger primeSwing(int n) {
+		requireNonNegative(n);
+		if (n < SMALL_FACTORIALS.length) {
+			return BigInteger.valueOf(SMALL_FACTORIALS[n]);
+		}
+		long[] primes = PrimeSieve.primes(2, n).toArray();
+		return primeSwing(n, primes, new long[primes.length]);
+	}
+
+	private static BigInteger primeSwing(int n, long[] primes, long[] scratch) {
+		if (n < SMALL_FACTORIALS.length) {
+			return BigInteger.valueOf(SMALL_FACTORIALS[n]);
+		}
+		BigInteger half = primeSwing(n / 2, primes, scratch);
+		return half.multiply(half).multiply(swing(n, primes, scratch));
+	}
+
+	/**
+	 * swing(n) = n! / ((n/2)!)², whose prime p appears with exponent
+	 * Σ_k (floor(n / p^k) mod 2), so every factor p^e is at most n.
+	 */
+	private static BigInteger swing(int n, long[] primes, long[] factors) {
+		int count = 0;
+		for (long p : primes) {
+			if (p > n) {
+				break;
+			}
+			long power = 1;
+			for (long q = n / p; q > 0; q /= p) {
+				if ((q & 1) == 1) {
+					power *= p;
+				}
+			}
+			if (power > 1) {
+				factors[count++] = power;
+			}
+		}
+		return product(factors, 0, count);
+	}
+
+	/**
+	 * lo * (lo + 1) * ... * hi as a balanced product tree.
+	 */
+	static BigInteger product(long lo, long hi) {
+		if (lo > hi) {
+			return BigInteger.ONE;
+		}
+		if (hi - lo < LEAF_SIZE) {
+			BigInteger result = BigInteger.ONE;
+			long packed = 1;
+			for (long i = lo; i <= hi; i++) {
+				if (Math.multiplyHigh(packed, i) != 0 || packed * i < 0) {
+					result = result.multiply(BigInteger.valueOf(packed));
+					packed = i;
+				} else {
+					packed *= i;
+				}
+			}
+			return result.multiply(BigInteger.valueOf(packed));
+		}
+		long mid = (lo + hi) >>> 1;
+		return product(lo, mid).multiply(product(mid + 1, hi));
+	}
+
+	private static BigInteger product(long[] values, int from, int to) {
+		if (to - from <= LEAF_SIZE) {
+			BigInteger result = BigInteger.ONE;
+			long packed = 1;
+			for (int i = from; i < to; i++) {
+				long v = values[i];
+				if (Math.multiplyHigh(packed, v) != 0 || packed * v < 0) {
+					result = result.multiply(BigInteger.valueOf(packed));
+					packed = v;
+				} else {
+					packed *= v;
+				}
+			}
+			return result.multiply(BigInteger.valueOf(packed));
+		}
+		int mid = (from + to) >>> 1;
+		return product(values, from, mid).multiply(product(values, mid, to));
+	}
+
+	private static void requireNonNegative(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Factorial is undefined for negative numbers: " + n);
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static final class ProductTask extends RecursiveTask<BigInteger> {
+
+		private final long lo;
+		private final long hi;
+
+		ProductTask(long lo, long hi) {
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		@Override
+		protected BigInteger compute() {
+			if (hi - lo < PARALLEL_THRESHOLD) {
+				return product(lo, hi);
+			}
+			long mid = (lo + hi) >>> 1;
+			ProductTask left = new ProductTask(lo, mid);
+			left.fork();
+			BigInteger right = new ProductTask(mid + 1, hi).compute();
+			return left.join().parallelMultiply(right);
+		}
+	}
+
+	public static void main(String[] args) {
+		Scanner sc = new Scanner(System.in);
+
+		System.out.print("Enter a number to calculate factorial: ");
+		int number = sc.nextInt();
+
+		BigInteger result = factorial(number);
+		String digits = result.toString();
+		System.out.println("Factorial of " + number + " has " + digits.length() + " digits"
+				+ (digits.length() <= 200 ? ": " + digits : ""));
+		sc.close();
+	}
+
+}
@@ -26,6 +26,20 @@ public class FactorialNumber {
 		return factorialNumber;
 	}
 
+	/**
+	 * Computes the factorial using FactorialEngine (prime swing with balanced
+	 * product trees and a size-bounded cache of results and checkpoints).
+	 *
+	 * Keeps BigInteger multiplications balanced so Karatsuba/Toom-Cook apply;
+	 * 100000! takes a fraction of the time of the one-at-a-time loop above.
+	 *
+	 * @param number The number whose factorial is to be calculated.
+	 * @return The factorial of the given number as a BigInteger.
+	 */
+	private static BigInteger findFactorialNumberUsingEngine(int number) {
+		return FactorialEngine.factorial(number);
+	}
+
 	public static void main(String[] args) {
 		Scanner sc = new Scanner(System.in);
 
@@ -35,6 +49,7 @@ public class FactorialNumber {
 
 		// Output the factorial result
 		System.out.println("Factorial of " + number + " is: " + findFactorialNumber(number));
+		System.out.println("Factorial of " + number + " (engine) is: " + findFactorialNumberUsingEngine(Math.toIntExact(number)));
 
 		sc.close(); // Close scanner
 	}
@@ -0,0 +1,238 @@
+package com.java.coding.numbers;
+
+import java.math.BigInteger;
+import java.util.Scanner;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.java.coding.cache.CacheBuilder;
+import com.java.coding.cache.CacheRegistry;
+import com.java.coding.cache.ComputationCache;
+import com.java.coding.cache.SnapshotCodec;
+import com.java.coding.cache.Weigher;
+
+/**
+ * Computes Fibonacci numbers by index instead of iterating term by term.
+ *
+ * 1. Fast doubling: F(2k) = F(k) * (2F(k+1) - F(k)), F(2k+1) = F(k)² + F(k+1)²,
+ *    so F(n) needs O(log n) multiplications. Indices up to 92 use a
+ *    precomputed long table, larger ones use BigInteger (whose
+ *    Karatsuba/Toom-Cook multiply makes F(10^6) take milliseconds).
+ * 2. F(n) mod m for any long n, with n first reduced modulo the Pisano
+ *    period π(m) when m is small enough to find it by iteration.
+ * 3. Lazily generated series as LongStream (exact, stops at F(92)) and
+ *    Stream&lt;BigInteger&gt; (unbounded, each stream keeps its own two terms).
+ *
+ * Large results and Pisano periods are kept in bounded caches (see
+ * {@link #cache()}), so repeated queries do not redo the doubling.
+ *
+ * Time Complexity: O(log n) multiplications; O(M(n) log n) bit operations.
+ */
+public final class FibonacciEngine {
+
+	/** Largest n for which F(n) fits in a long. */
+	public static final int MAX_LONG_INDEX = 92;
+
+	private static final long[] LONG_TABLE = new long[MAX_LONG_INDEX + 1];
+
+	static {
+		LONG_TABLE[1] = 1;
+		for (int i = 2; i <= MAX_LONG_INDEX; i++) {
+			LONG_TABLE[i] = LONG_TABLE[i - 1] + LONG_TABLE[i - 2];
+		}
+	}
+
+	// Pisano periods are only searched for up to this modulus (π(m) <= 6m).
+	private static final long MAX_PISANO_MODULUS = 1_000_000;
+
+	private static final ComputationCache<Long, Long> PISANO_PERIODS = CacheRegistry.register("fibonacci-pisano",
+			CacheBuilder.<Long, Long>newBuilder().maximumSize(4_096).build(), SnapshotCodec.LONG, SnapshotCodec.LONG);
+
+	private static final long MAX_CACHE_BYTES = 32L << 20;
+
+	// F(n) for n beyond the long table, weighted by size. Two segments, so a
+	// result of up to half the budget is cacheable on any host.
+	private static final ComputationCache<Integer, BigInteger> RESULTS = CacheRegistry.register("fibonacci",
+			CacheBuilder.<Integer, BigInteger>newBuilder().maximumWeight(MAX_CACHE_BYTES, Weigher.bigIntegerBytes())
+					.concurrencyLevel(2)
+					.build(),
+			SnapshotCodec.INTEGER, SnapshotCodec.BIG_INTEGER);
+
+	private FibonacciEngine() {
+	}
+
+	/**
+	 * F(n) as a long.
+	 *
+	 * @throws ArithmeticException if n &gt; 92 (the result would overflow)
+	 */
+	public static long fibonacciLong(int n) {
+		requireNonNegative(n);
+		if (n > MAX_LONG_INDEX) {
+			throw new ArithmeticException("F(" + n + ") overflows a long; use fibonacci(" + n + ")");
+		}
+		return LONG_TABLE[n];
+	}
+
+	/**
+	 * F(n) for any non-negative n via fast doubling, cached.
+	 */
+	public static BigInteger fibonacci(int n) {
+		requireNonNegative(n);
+		if (n <= MAX_LONG_INDEX) {
+			return BigInteger.valueOf(LONG_TABLE[n]);
+		}
+		return RESULTS.get(n, FibonacciEngine::fastDoubling);
+	}
+
+	/**
+	 * The cache of large F(n) results (n -&gt; F(n)).
+	 */
+	public static ComputationCache<Integer, BigInteger> cache() {
+		return RESULTS;
+	}
+
+	static BigInteger fastDoubling(int n) {
+		// Start from the long table once the remaining prefix of n fits in it.
+		int shift = 32 - Integer.numberOfLeadingZeros(n);
+		while (shift > 0 && (n >>> (shift - 1)) <= MAX_LONG_INDEX - 1) {
+			shift--;
+		}
+		int k = n >>> shift;
+		BigInteger a = BigInteger.valueOf(LONG_TABLE[k]); // F(k)
+		BigInteger b = BigInteger.valueOf(LONG_TABLE[k + 1]); // F(k+1)
+		for (int bit = shift - 1; bit >= 0; bit--) {
+			BigInteger c = a.multiply(b.shiftLeft(1).subtract(a)); // F(2k)
+			BigInteger d = a.multiply(a).add(b.multiply(b)); // F(2k+1)
+			if (((n >>> bit) & 1) == 0) {
+				a = c;
+				b = d;
+			} else {
+				a = d;
+				b = c.add(d);
+			}
+		}
+		return a;
+	}
+
+	/**
+	 * F(n) mod m via fast doubling on longs, after reducing n modulo the
+	 * Pisano period π(m) when m &lt;= 10^6.
+	 */
+	public static long fibonacciMod(long n, long m) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Index must not be negative: " + n);
+		}
+		if (m < 1) {
+			throw new IllegalArgumentException("Modulus must be positive: " + m);
+		}
+		if (m == 1) {
+			return 0;
+		}
+		if (m <= MAX_PISANO_MODULUS) {
+			n %= pisanoPeriod(m);
+		}
+		long a = 0; // F(k) mod m
+		long b = 1; // F(k+1) mod m
+		for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+			long c = mulMod(a, addMod(b, subtractMod(b, a, m), m), m);
+			long d = addMod(mulMod(a, a, m), mulMod(b, b, m), m);
+			if (((n >>> bit) & 1) == 0) {
+				a = c;
+				b = d;
+			} else {
+				a = d;
+				b = addMod(c, d, m);
+			}
+		}
+		return a;
+	}
+
+	/**
+	 * Pisano period π(m): the period of F(n) mod m. Cached per modulus.
+	 */
+	public static long pisanoPeriod(long m) {
+		if (m < 2 || m > MAX_PISANO_MODULUS) {
+			throw new IllegalArgumentException("Modulus must be in [2, " + MAX_PISANO_MODULUS + "]: " + m);
+		}
+		return PISANO_PERIODS.get(m, modulus -> {
+			long previous = 0;
+			long current = 1;
+			for (long i = 1; i <= 6 * modulus; i++) {
+				long next = (previous + current) % modulus;
+				previous = current;
+				current = next;
+				if (previous == 0 && current == 1) {
+					return i;
+				}
+			}
+			throw new IllegalStateException("No Pisano period found for " + modulus);
+		});
+	}
+
+	/**
+	 * F(0), F(1), ..., F(92) as an exact LongStream (the series stops where a
+	 * long would overflow).
+	 */
+	public static LongStream fibonacciLongStream() {
+		return LongStream.rangeClosed(0, MAX_LONG_INDEX).map(i -> LONG_TABLE[(int) i]);
+	}
+
+	/**
+	 * Unbounded, lazily generated series F(0), F(1), ...; each stream carries
+	 * its own two terms, so nothing is shared or locked between streams.
+	 */
+	public static Stream<BigInteger> fibonacciStream() {
+		return Stream.generate(new Supplier<BigInteger>() {
+			private BigInteger current = BigInteger.ZERO;
+			private BigInteger next = BigInteger.ONE;
+
+			@Override
+			public BigInteger get() {
+				BigInteger term = current;
+				current = next;
+				next = term.add(next);
+				return term;
+			}
+		});
+	}
+
+	// (a * b) mod m for 0 <= a, b < m
+	private static long mulMod(long a, long b, long m) {
+		long high = Math.multiplyHigh(a, b);
+		if (high == 0 && a * b >= 0) {
+			return a * b % m;
+		}
+		return BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(BigInteger.valueOf(m)).longValue();
+	}
+
+	private static long addMod(long a, long b, long m) {
+		return a >= m - b ? a - (m - b) : a + b;
+	}
+
+	private static long subtractMod(long a, long b, long m) {
+		return a >= b ? a - b : a - b + m;
+	}
+
+	private static void requireNonNegative(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Index must not be negative: " + n);
+		}
+	}
+
+	public static void main(String[] args) {
+		Scanner sc = new Scanner(System.in);
+
+		System.out.print("Enter the index n to compute F(n): ");
+		int n = sc.nextInt();
+
+		BigInteger value = fibonacci(n);
+		String digits = value.toString();
+		System.out.println("F(" + n + ") has " + digits.length() + " digits"
+				+ (digits.length() <= 100 ? ": " + digits : ""));
+		System.out.println("F(" + n + ") mod 1000000007 = " + fibonacciMod(n, 1_000_000_007L));
+		sc.close();
+	}
+
+}
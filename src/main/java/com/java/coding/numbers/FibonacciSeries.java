@@ -38,9 +38,9 @@ public class FibonacciSeries {
 		System.out.print(" " + b); // Print second Fibonacci number
 
 		while (true) {
+			if (b > number - a)
+				break; // Stop when next term exceeds 'number' (checked before adding, so F(93) never overflows)
 			long next = a + b;
-			if (next > number)
-				break; // Stop when next term exceeds 'number'
 			System.out.print(" " + next);
 			a = b;
 			b = next;
@@ -0,0 +1,85 @@
+package com.java.coding.numbers;
+
+/**
+ * Montgomery arithmetic modulo an odd long n (R = 2^64).
+ *
+ * Replaces each {@code (a * b) % n} with two 64x64-bit multiplies and a
+ * shift-free reduction, so 128-bit products never need a division. Values
+ * are kept in Montgomery form ({@code aR mod n}) between operations; convert
+ * with {@link #toMontgomery(long)} / {@link #fromMontgomery(long)}.
+ *
+ * Shared by MillerRabinPrimality and PrimeFactorizer.
+ */
+final class MontgomeryLong {
+
+	final long modulus;
+	final long one; // R mod n, i.e. 1 in Montgomery form
+	final long minusOne; // n - 1 in Montgomery form
+
+	private final long negInverse; // -n^-1 mod 2^64
+	private final long rSquared; // R^2 mod n
+
+	MontgomeryLong(long modulus) {
+		if (modulus <= 1 || (modulus & 1) == 0) {
+			throw new IllegalArgumentException("Modulus must be odd and > 1: " + modulus);
+		}
+		this.modulus = modulus;
+
+		long inverse = modulus; // correct to 3 bits for odd n; each Newton step doubles that
+		for (int i = 0; i < 5; i++) {
+			inverse *= 2 - modulus * inverse;
+		}
+		this.negInverse = -inverse;
+
+		long r = Long.remainderUnsigned(-modulus, modulus); // 2^64 mod n
+		this.one = r;
+		this.minusOne = modulus - r;
+		for (int i = 0; i < 64; i++) {
+			r = addMod(r, r);
+		}
+		this.rSquared = r;
+	}
+
+	long toMontgomery(long a) {
+		return multiply(Long.remainderUnsigned(a, modulus), rSquared);
+	}
+
+	long fromMontgomery(long a) {
+		return reduce(0, a);
+	}
+
+	/**
+	 * abR^-1 mod n for a, b in Montgomery form.
+	 */
+	long multiply(long a, long b) {
+		return reduce(Math.unsignedMultiplyHigh(a, b), a * b);
+	}
+
+	long pow(long base, long exponent) {
+		long result = one;
+		while (exponent != 0) {
+			if ((exponent & 1) == 1) {
+				result = multiply(result, base);
+			}
+			base = multiply(base, base);
+			exponent >>>= 1;
+		}
+		return result;
+	}
+
+	long addMod(long a, long b) {
+		return a >= modulus - b ? a - (modulus - b) : a + b;
+	}
+
+	long subtractMod(long a, long b) {
+		return a >= b ? a - b : a - b + modulus;
+	}
+
+	// REDC: (high * 2^64 + low) * R^-1 mod n, valid for inputs < n * R
+	private long reduce(long high, long low) {
+		long m = low * negInverse;
+		long t = high + Math.unsignedMultiplyHigh(m, modulus) + (low != 0 ? 1 : 0);
+		return Long.compareUnsigned(t, modulus) >= 0 ? t - modulus : t;
+	}
+
+}
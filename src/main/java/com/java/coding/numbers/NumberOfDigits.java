@@ -13,7 +13,7 @@ public class NumberOfDigits {
 	 * @param number The input number.
 	 * @return The sum of its digits.
 	 */
-	private static long findSumOfDigits(long number) {
+	static long findSumOfDigits(long number) {
 		long sum = 0;
 		while (number != 0) {
 			sum += number % 10; // Extract last digit and add to sum
@@ -46,13 +46,37 @@ public class NumberOfDigits {
      * @param number The input number.
      * @return The sum of its digits.
      */
-    private static long findSumOfDigitsWithStream(long number) {
+    static long findSumOfDigitsWithStream(long number) {
         return String.valueOf(number)
                      .chars()              // Convert to IntStream of ASCII values
                      .map(Character::getNumericValue)  // Convert characters to integers
                      .sum();               // Compute sum
     }
 
+	/**
+	 * Computes the sum of digits with the shared {@link DigitKernel}, four digits
+	 * per step from a lookup table.
+	 *
+	 * ✅ No String allocation (unlike the Stream variant)
+	 * ✅ Batch form: {@link DigitKernel#digitSums(long[], long[])}
+	 *
+	 * Time Complexity: O(log N / 4)
+	 * Space Complexity: O(1)
+	 */
+	static long findSumOfDigitsUsingDigitKernel(long number) {
+		return DigitKernel.digitSum(number);
+	}
+
+	/**
+	 * Counts the digits from the bit length and a single comparison.
+	 *
+	 * Time Complexity: O(1)
+	 * Space Complexity: O(1)
+	 */
+	static int countDigitsUsingDigitKernel(long number) {
+		return DigitKernel.digitCount(number);
+	}
+
 	public static void main(String[] args) {
 		Scanner sc = new Scanner(System.in);
 
@@ -64,6 +88,8 @@ public class NumberOfDigits {
 		System.out.println("Sum of digits of " + number + " is (Iterative): " + findSumOfDigits(number));
 		System.out.println("Sum of digits of " + number + " is (Recursive): " + findSumOfDigitsWithRecursive(number));
 		System.out.println("Sum of digits of " + number + " is (Stream): " + findSumOfDigitsWithStream(number));
+		System.out.println("Sum of digits of " + number + " is (Digit kernel): " + findSumOfDigitsUsingDigitKernel(number));
+		System.out.println("Number of digits in " + number + " is: " + countDigitsUsingDigitKernel(number));
 
 		sc.close(); // Close scanner
 	}
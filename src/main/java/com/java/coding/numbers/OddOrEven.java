@@ -23,6 +23,18 @@ public class OddOrEven {
 		}
 	}
 
+	/**
+	 * Branch-free parity test for batch callers that need a boolean, not a sentence.
+	 *
+	 * ✅ Checks the lowest bit, correct for negative numbers too
+	 * ✅ No String allocation
+	 *
+	 * Time Complexity: O(1)
+	 */
+	public static boolean isEvenNumber(long number) {
+		return (number & 1) == 0;
+	}
+
 	public static void main(String[] args) {
 		Scanner sc = new Scanner(System.in);
 
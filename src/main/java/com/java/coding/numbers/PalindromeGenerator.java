@@ -0,0 +1,168 @@
+package com.java.coding.numbers;
+
+import java.util.Scanner;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Constructs palindromic numbers in a range instead of testing every value.
+ *
+ * A palindrome of length L is determined by its first ⌈L / 2⌉ digits, so the
+ * generator walks those halves in order and mirrors each one. Walking halves
+ * in ascending order within each length yields the palindromes in ascending
+ * order.
+ *
+ * ✅ Any radix from 2 to 36
+ * ✅ Output-sensitive: O(digits) per palindrome produced, not per value scanned
+ * ✅ count() is O(digits) without generating anything
+ * ⚠️ Negative numbers are never palindromes; the range is clamped at 0
+ */
+public final class PalindromeGenerator {
+
+	private PalindromeGenerator() {
+	}
+
+	/**
+	 * Decimal palindromes in [lo, hi], ascending.
+	 */
+	public static LongStream palindromes(long lo, long hi) {
+		return palindromes(lo, hi, 10);
+	}
+
+	/**
+	 * Palindromes (in the given radix) in [lo, hi], ascending.
+	 */
+	public static LongStream palindromes(long lo, long hi, int radix) {
+		checkRadix(radix);
+		long from = Math.max(lo, 0);
+		if (from > hi) {
+			return LongStream.empty();
+		}
+		int minLength = digitLength(from, radix);
+		int maxLength = digitLength(hi, radix);
+		return IntStream.rangeClosed(minLength, maxLength)
+				.mapToObj(length -> {
+					int halfLength = (length + 1) / 2;
+					long firstHalf = length == minLength ? prefix(from, length, halfLength, radix)
+							: firstHalf(halfLength, length, radix);
+					long lastHalf = length == maxLength ? prefix(hi, length, halfLength, radix)
+							: pow(radix, halfLength) - 1;
+					// only the first and last half can mirror to a value outside [from, hi]
+					return LongStream.rangeClosed(firstHalf, lastHalf)
+							.map(half -> mirror(half, length, radix))
+							.filter(p -> p >= from && p <= hi);
+				})
+				.flatMapToLong(s -> s);
+	}
+
+	/**
+	 * Number of decimal palindromes in [lo, hi].
+	 */
+	public static long count(long lo, long hi) {
+		return count(lo, hi, 10);
+	}
+
+	/**
+	 * Number of palindromes (in the given radix) in [lo, hi].
+	 *
+	 * Time Complexity: O(digits)
+	 */
+	public static long count(long lo, long hi, int radix) {
+		checkRadix(radix);
+		long from = Math.max(lo, 0);
+		if (from > hi) {
+			return 0;
+		}
+		return countUpTo(hi, radix) - (from == 0 ? 0 : countUpTo(from - 1, radix));
+	}
+
+	/**
+	 * Palindromes in [0, n] for n &gt;= 0.
+	 */
+	private static long countUpTo(long n, int radix) {
+		int length = digitLength(n, radix);
+		if (length == 1) {
+			return n + 1;
+		}
+		// all shorter lengths: 1-digit values 0..radix-1, then (radix - 1) * radix^(⌈l/2⌉ - 1) each
+		long count = radix;
+		for (int l = 2; l < length; l++) {
+			count += (radix - 1) * pow(radix, (l + 1) / 2 - 1);
+		}
+		// same length: every half below n's own first half, plus that one if its mirror fits
+		int halfLength = (length + 1) / 2;
+		long half = prefix(n, length, halfLength, radix);
+		count += half - pow(radix, halfLength - 1);
+		long own = mirror(half, length, radix);
+		return own >= 0 && own <= n ? count + 1 : count;
+	}
+
+	/**
+	 * Smallest half for a given length: 0 for one digit, otherwise radix^(halfLength - 1).
+	 */
+	private static long firstHalf(int halfLength, int length, int radix) {
+		return length == 1 ? 0 : pow(radix, halfLength - 1);
+	}
+
+	/**
+	 * First halfLength digits of an n with exactly length digits.
+	 */
+	private static long prefix(long n, int length, int halfLength, int radix) {
+		return n / pow(radix, length - halfLength);
+	}
+
+	/**
+	 * The length-digit palindrome whose first half is half, or -1 if it
+	 * does not fit in a long.
+	 */
+	static long mirror(long half, int length, int radix) {
+		long result = half;
+		long rest = (length & 1) == 1 ? half / radix : half;
+		for (int i = 0; i < length / 2; i++) {
+			if (result > (Long.MAX_VALUE - rest % radix) / radix) {
+				return -1;
+			}
+			result = result * radix + rest % radix;
+			rest /= radix;
+		}
+		return result;
+	}
+
+	private static int digitLength(long n, int radix) {
+		int length = 1;
+		for (long rest = n / radix; rest != 0; rest /= radix) {
+			length++;
+		}
+		return length;
+	}
+
+	private static long pow(int radix, int exponent) {
+		long result = 1;
+		for (int i = 0; i < exponent; i++) {
+			result *= radix;
+		}
+		return result;
+	}
+
+	private static void checkRadix(int radix) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+			throw new IllegalArgumentException("Radix must be in [2, 36]: " + radix);
+		}
+	}
+
+	public static void main(String[] args) {
+		Scanner sc = new Scanner(System.in);
+
+		System.out.print("Enter the lower bound of the range: ");
+		long lo = sc.nextLong();
+		System.out.print("Enter the upper bound of the range: ");
+		long hi = sc.nextLong();
+
+		System.out.println("Number of palindromes in range: " + count(lo, hi));
+		System.out.print("First palindromes in range: ");
+		palindromes(lo, hi).limit(100).forEach(p -> System.out.print(p + " "));
+		System.out.println();
+		sc.close();
+	}
+
+}
@@ -16,7 +16,7 @@ public class PalindromeNumber {
 	 * @param number The number to check.
 	 * @return true if the number is a palindrome, false otherwise.
 	 */
-	private static boolean isPalindromeNumber(long number) {
+	static boolean isPalindromeNumber(long number) {
 		if (number < 0 || (number % 10 == 0 && number != 0))
 			return false; // Negative numbers and numbers ending in 0 (except 0) are not palindromes
 
@@ -61,11 +61,25 @@ public class PalindromeNumber {
 	 * @param number The input number.
 	 * @return true if the number is a palindrome, false otherwise.
 	 */
-	private static boolean isPalindromeWithStringBuilder(long number) {
+	static boolean isPalindromeWithStringBuilder(long number) {
 		String str = String.valueOf(number);
 		return str.equals(new StringBuilder(str).reverse().toString());
 	}
 
+	/**
+	 * Checks if a number is a palindrome with the shared {@link DigitKernel}.
+	 *
+	 * ✅ Two digits per step, no String allocation
+	 * ✅ Correct for 19-digit inputs without overflowing
+	 * ✅ Batch form: {@link DigitKernel#palindromes(long[], boolean[])}
+	 *
+	 * Time Complexity: O(log N / 2)
+	 * Space Complexity: O(1)
+	 */
+	static boolean isPalindromeUsingDigitKernel(long number) {
+		return DigitKernel.isPalindrome(number);
+	}
+
 	public static void main(String[] args) {
 		Scanner sc = new Scanner(System.in);
 
@@ -81,6 +95,9 @@ public class PalindromeNumber {
 
 		System.out.println("StringBuilder:: Number " + number
 				+ (isPalindromeWithStringBuilder(number) ? " is a palindrome number." : "is NOT a palindrome number."));
+
+		System.out.println("Digit kernel:: Number " + number
+				+ (isPalindromeUsingDigitKernel(number) ? " is a palindrome number." : "is NOT a palindrome number."));
 		sc.close();
 	}
 
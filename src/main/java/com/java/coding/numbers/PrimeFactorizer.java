@@ -0,0 +1,248 @@
+package com.java.coding.numbers;
+
+import java.util.Arrays;
+import java.util.Scanner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Full prime factorization of longs.
+ *
+ * 1. Trial division by a precomputed table of the primes below 2^12.
+ * 2. Any remaining cofactor is checked with deterministic Miller-Rabin
+ *    (MillerRabinPrimality) and, if composite, split with Pollard's rho
+ *    using Brent's cycle detection. Products of |x - y| are batched so that
+ *    one gcd covers many steps, and all arithmetic is Montgomery form.
+ *
+ * Time Complexity: O(N^(1/4)) expected per split, instead of O(√N) for
+ * trial division; a 63-bit semiprime takes microseconds to milliseconds.
+ */
+public final class PrimeFactorizer {
+
+	private static final int TRIAL_DIVISION_LIMIT = 1 << 12;
+	private static final int[] SMALL_PRIMES = PrimeSieve.primes(2, TRIAL_DIVISION_LIMIT)
+			.mapToInt(p -> (int) p)
+			.toArray();
+	private static final int BRENT_BATCH = 128;
+
+	private PrimeFactorizer() {
+	}
+
+	/**
+	 * Prime factors with multiplicity, ascending (e.g. 360 -> [2, 2, 2, 3, 3, 5]).
+	 */
+	public static long[] primeFactors(long n) {
+		if (n < 1) {
+			throw new IllegalArgumentException("Only positive numbers can be factorized: " + n);
+		}
+		long[] factors = new long[Long.SIZE];
+		int count = 0;
+		for (int p : SMALL_PRIMES) {
+			if ((long) p * p > n) {
+				break;
+			}
+			while (n % p == 0) {
+				factors[count++] = p;
+				n /= p;
+			}
+		}
+		if (n > 1) {
+			count = splitLarge(n, factors, count);
+		}
+		long[] result = Arrays.copyOf(factors, count);
+		Arrays.sort(result);
+		return result;
+	}
+
+	public static Factorization factorize(long n) {
+		return Factorization.of(n, primeFactors(n));
+	}
+
+	/**
+	 * Factorizes every number, spreading the work across cores.
+	 */
+	public static Factorization[] factorizeAll(long[] numbers) {
+		Factorization[] result = new Factorization[numbers.length];
+		IntStream.range(0, numbers.length)
+				.parallel()
+				.forEach(i -> result[i] = factorize(numbers[i]));
+		return result;
+	}
+
+	// n has no prime factor below TRIAL_DIVISION_LIMIT
+	private static int splitLarge(long n, long[] factors, int count) {
+		if (n == 1) {
+			return count;
+		}
+		if ((long) TRIAL_DIVISION_LIMIT * TRIAL_DIVISION_LIMIT > n || MillerRabinPrimality.isPrimeUncached(n)) {
+			factors[count++] = n;
+			return count;
+		}
+		long divisor = pollardBrent(n);
+		count = splitLarge(divisor, factors, count);
+		return splitLarge(n / divisor, factors, count);
+	}
+
+	/**
+	 * Returns a non-trivial divisor of the odd composite n.
+	 */
+	static long pollardBrent(long n) {
+		MontgomeryLong mont = new MontgomeryLong(n);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while (true) {
+			long c = mont.toMontgomery(random.nextLong(1, n));
+			long y = mont.toMontgomery(random.nextLong(1, n));
+			long x = y;
+			long ys = y;
+			long q = mont.one;
+			long g = 1;
+			for (long r = 1; g == 1; r <<= 1) {
+				x = y;
+				for (long i = 0; i < r; i++) {
+					y = step(mont, y, c);
+				}
+				for (long k = 0; k < r && g == 1; k += BRENT_BATCH) {
+					ys = y;
+					for (long i = 0; i < Math.min(BRENT_BATCH, r - k); i++) {
+						y = step(mont, y, c);
+						q = mont.multiply(q, Math.abs(x - y));
+					}
+					g = gcd(q, n);
+				}
+			}
+			if (g == n) {
+				// The batch overshot; redo it one step at a time.
+				do {
+					ys = step(mont, ys, c);
+					g = gcd(Math.abs(x - ys), n);
+				} while (g == 1);
+			}
+			if (g != n) {
+				return g;
+			}
+			// Cycle without a split; retry with another polynomial.
+		}
+	}
+
+	private static long step(MontgomeryLong mont, long y, long c) {
+		return mont.addMod(mont.multiply(y, y), c);
+	}
+
+	static long gcd(long a, long b) {
+		if (a == 0) {
+			return b;
+		}
+		if (b == 0) {
+			return a;
+		}
+		int shift = Long.numberOfTrailingZeros(a | b);
+		a >>>= Long.numberOfTrailingZeros(a);
+		while (b != 0) {
+			b >>>= Long.numberOfTrailingZeros(b);
+			if (a > b) {
+				long t = a;
+				a = b;
+				b = t;
+			}
+			b -= a;
+		}
+		return a << shift;
+	}
+
+	/**
+	 * Prime-power form of a number, e.g. 360 = 2^3 * 3^2 * 5.
+	 */
+	public static final class Factorization {
+
+		private final long number;
+		private final long[] primes;
+		private final int[] exponents;
+
+		private Factorization(long number, long[] primes, int[] exponents) {
+			this.number = number;
+			this.primes = primes;
+			this.exponents = exponents;
+		}
+
+		static Factorization of(long number, long[] sortedFactors) {
+			long[] primes = new long[sortedFactors.length];
+			int[] exponents = new int[sortedFactors.length];
+			int distinct = 0;
+			for (int i = 0; i < sortedFactors.length; i++) {
+				if (i > 0 && sortedFactors[i] == sortedFactors[i - 1]) {
+					exponents[distinct - 1]++;
+				} else {
+					primes[distinct] = sortedFactors[i];
+					exponents[distinct++] = 1;
+				}
+			}
+			return new Factorization(number, Arrays.copyOf(primes, distinct), Arrays.copyOf(exponents, distinct));
+		}
+
+		public long getNumber() {
+			return number;
+		}
+
+		public long[] getPrimes() {
+			return primes.clone();
+		}
+
+		public int[] getExponents() {
+			return exponents.clone();
+		}
+
+		/**
+		 * d(n) = Π (e + 1)
+		 */
+		public long divisorCount() {
+			long count = 1;
+			for (int e : exponents) {
+				count *= e + 1;
+			}
+			return count;
+		}
+
+		/**
+		 * φ(n) = n Π (1 - 1/p)
+		 */
+		public long totient() {
+			long result = number;
+			for (long p : primes) {
+				result = result / p * (p - 1);
+			}
+			return result;
+		}
+
+		@Override
+		public String toString() {
+			if (primes.length == 0) {
+				return number + " = 1";
+			}
+			StringBuilder sb = new StringBuilder().append(number).append(" = ");
+			for (int i = 0; i < primes.length; i++) {
+				if (i > 0) {
+					sb.append(" * ");
+				}
+				sb.append(primes[i]);
+				if (exponents[i] > 1) {
+					sb.append('^').append(exponents[i]);
+				}
+			}
+			return sb.toString();
+		}
+	}
+
+	public static void main(String[] args) {
+		Scanner sc = new Scanner(System.in);
+
+		System.out.print("Enter a number to factorize: ");
+		long number = sc.nextLong();
+
+		Factorization factorization = factorize(number);
+		System.out.println("Factorization:: " + factorization);
+		System.out.println("Number of divisors:: " + factorization.divisorCount());
+		System.out.println("Euler's totient:: " + factorization.totient());
+		sc.close();
+	}
+
+}
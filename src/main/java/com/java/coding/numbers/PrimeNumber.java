@@ -34,6 +34,22 @@ public class PrimeNumber {
 		return "The Given Number is a Prime Number";
 	}
 
+	/**
+	 * Determines whether a given number is prime using deterministic
+	 * Miller-Rabin (see MillerRabinPrimality).
+	 *
+	 * Correct for every long, with a small-prime prefilter and a cache of
+	 * recent results.
+	 *
+	 * Time Complexity: O(log³ N)
+	 *
+	 * @param number The number to check for primality.
+	 * @return true if the number is prime, otherwise false.
+	 */
+	public static boolean isPrime(long number) {
+		return MillerRabinPrimality.isPrime(number);
+	}
+
 	public static void main(String[] args) {
 		Scanner sc = new Scanner(System.in);
 
@@ -41,6 +57,7 @@ public class PrimeNumber {
 		long number = sc.nextLong(); // Read an long input
 
 		System.out.println("Output:: " + findPrimeNumber(number));
+		System.out.println("Miller-Rabin:: " + isPrime(number));
 		sc.close();
 	}
 }
@@ -0,0 +1,275 @@
+package com.java.coding.numbers;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Scanner;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Prime engine built on a segmented, bit-packed, odd-only Sieve of
+ * Eratosthenes.
+ *
+ * Ranges are sieved in 32 KB segments (one bit per odd number, so 512K
+ * numbers per segment) that fit in L1/L2 cache, using base primes up to
+ * √hi. Memory is O(√hi + segment) no matter how wide the range is.
+ *
+ * - {@link #primes(long, long)}: lazy LongStream of primes in [lo, hi]; call
+ *   {@code .parallel()} on it to sieve segments across cores (order kept).
+ * - {@link #count(long, long, boolean)}: prime counting with popcount.
+ * - Ranges end at most at {@link #MAX_RANGE_HI} (2^50), so the base primes
+ *   up to √hi stay at a few MB.
+ * - An instance ({@link #PrimeSieve(long)}) keeps a sieve table up to a
+ *   limit and answers batch primality checks by bit lookup (n ≤ limit) or
+ *   by trial division with the table's primes (n ≤ limit²).
+ *
+ * Time Complexity: O(N log log N) for a range of width N.
+ */
+public final class PrimeSieve {
+
+	private static final int SEGMENT_BITS = 1 << 18; // 32 KB of bits
+	private static final long SEGMENT_SPAN = 2L * SEGMENT_BITS; // odd numbers only
+	private static final long MAX_TABLE_LIMIT = 1L << 34; // 1 GB table
+
+	/**
+	 * Largest supported range end: base primes up to 2^25 (a 16 MB sieve).
+	 */
+	public static final long MAX_RANGE_HI = 1L << 50;
+
+	private final long limit;
+	private final long[] oddBits; // bit i set => 2i + 1 is prime
+
+	/**
+	 * Precomputes a sieve table covering [0, limit].
+	 *
+	 * Memory: limit / 16 bytes for the table (e.g. 62.5 MB for 10^9, at most
+	 * 1 GB for the 2^34 maximum).
+	 */
+	public PrimeSieve(long limit) {
+		if (limit < 2 || limit > MAX_TABLE_LIMIT) {
+			throw new IllegalArgumentException("Sieve limit must be in [2, 2^34]: " + limit);
+		}
+		this.limit = limit;
+		long bitCount = (limit + 1) / 2;
+		this.oddBits = new long[(int) ((bitCount + 63) >>> 6)];
+		int[] basePrimes = basePrimes((long) Math.sqrt((double) limit) + 1);
+		long[] segment = new long[SEGMENT_BITS >>> 6];
+		for (long low = 1; low <= limit; low += SEGMENT_SPAN) {
+			int bits = (int) Math.min(SEGMENT_BITS, (limit - low) / 2 + 1);
+			sieveSegment(segment, low, bits, basePrimes);
+			System.arraycopy(segment, 0, oddBits, (int) ((low / 2) >>> 6), (bits + 63) >>> 6);
+		}
+	}
+
+	public long getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Primality by table lookup (n ≤ limit) or trial division by the table's
+	 * primes (n ≤ limit²).
+	 *
+	 * @throws IllegalArgumentException if n &gt; limit²
+	 */
+	public boolean isPrime(long n) {
+		if (n < 2) {
+			return false;
+		}
+		if ((n & 1) == 0) {
+			return n == 2;
+		}
+		if (n <= limit) {
+			return isOddPrimeInTable(n);
+		}
+		if (n / limit > limit) {
+			throw new IllegalArgumentException(n + " exceeds the sieve's reach (limit² = " + limit + "²)");
+		}
+		// √n ≤ limit, so the table's odd primes are enough; walk only their set bits
+		for (int w = 0; w < oddBits.length; w++) {
+			for (long word = oddBits[w]; word != 0; word &= word - 1) {
+				long p = 2 * (((long) w << 6) + Long.numberOfTrailingZeros(word)) + 1;
+				if (p > n / p) {
+					return true;
+				}
+				if (n % p == 0) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private boolean isOddPrimeInTable(long n) {
+		long index = n >>> 1;
+		return (oddBits[(int) (index >>> 6)] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Batch primality check; every lookup reuses the same sieve table.
+	 */
+	public boolean[] isPrime(long[] numbers) {
+		boolean[] result = new boolean[numbers.length];
+		for (int i = 0; i < numbers.length; i++) {
+			result[i] = isPrime(numbers[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Parallel batch primality check (the table is read-only, so it is shared
+	 * safely across threads).
+	 */
+	public boolean[] isPrimeParallel(long[] numbers) {
+		boolean[] result = new boolean[numbers.length];
+		IntStream.range(0, numbers.length)
+				.parallel()
+				.forEach(i -> result[i] = isPrime(numbers[i]));
+		return result;
+	}
+
+	// ---- range operations (no instance needed) ----
+
+	/**
+	 * Lazily sieved primes in [lo, hi], ascending. Parallel-capable.
+	 *
+	 * @throws IllegalArgumentException if hi &gt; {@link #MAX_RANGE_HI}
+	 */
+	public static LongStream primes(long lo, long hi) {
+		checkRangeEnd(hi);
+		lo = Math.max(lo, 2);
+		if (lo > hi) {
+			return LongStream.empty();
+		}
+		LongStream two = lo == 2 ? LongStream.of(2) : LongStream.empty();
+		long firstOdd = Math.max(3, lo | 1);
+		if (firstOdd > hi) {
+			return two;
+		}
+		int[] basePrimes = basePrimes((long) Math.sqrt((double) hi) + 1);
+		long segments = (hi - firstOdd) / SEGMENT_SPAN + 1;
+		final long start = firstOdd;
+		LongStream odd = LongStream.range(0, segments).flatMap(segment -> {
+			long low = start + segment * SEGMENT_SPAN;
+			int bits = (int) Math.min(SEGMENT_BITS, (hi - low) / 2 + 1);
+			long[] segmentBits = new long[(bits + 63) >>> 6];
+			sieveSegment(segmentBits, low, bits, basePrimes);
+			return setBits(segmentBits, bits).mapToLong(i -> low + 2L * i);
+		});
+		return LongStream.concat(two, odd);
+	}
+
+	/**
+	 * Number of primes in [lo, hi] (popcount per segment, nothing is boxed or
+	 * enumerated).
+	 *
+	 * @throws IllegalArgumentException if hi &gt; {@link #MAX_RANGE_HI}
+	 */
+	public static long count(long lo, long hi, boolean parallel) {
+		checkRangeEnd(hi);
+		lo = Math.max(lo, 2);
+		if (lo > hi) {
+			return 0;
+		}
+		long count = lo == 2 ? 1 : 0;
+		long firstOdd = Math.max(3, lo | 1);
+		if (firstOdd > hi) {
+			return count;
+		}
+		int[] basePrimes = basePrimes((long) Math.sqrt((double) hi) + 1);
+		long segments = (hi - firstOdd) / SEGMENT_SPAN + 1;
+		LongStream indices = LongStream.range(0, segments);
+		if (parallel) {
+			indices = indices.parallel();
+		}
+		return count + indices.map(segment -> {
+			long low = firstOdd + segment * SEGMENT_SPAN;
+			int bits = (int) Math.min(SEGMENT_BITS, (hi - low) / 2 + 1);
+			long[] segmentBits = new long[(bits + 63) >>> 6];
+			sieveSegment(segmentBits, low, bits, basePrimes);
+			long segmentCount = 0;
+			for (long word : segmentBits) {
+				segmentCount += Long.bitCount(word);
+			}
+			return segmentCount;
+		}).sum();
+	}
+
+	private static void checkRangeEnd(long hi) {
+		if (hi > MAX_RANGE_HI) {
+			throw new IllegalArgumentException("Range end must be at most 2^50: " + hi);
+		}
+	}
+
+	/**
+	 * Sieves odd numbers low, low + 2, ..., low + 2 * (bits - 1) into bits
+	 * (set = prime). low must be odd.
+	 */
+	private static void sieveSegment(long[] segment, long low, int bits, int[] basePrimes) {
+		int words = (bits + 63) >>> 6;
+		Arrays.fill(segment, 0, words, -1L);
+		if ((bits & 63) != 0) {
+			segment[words - 1] = (1L << bits) - 1; // clear bits past the end
+		}
+		long high = low + 2L * (bits - 1);
+		for (int p : basePrimes) {
+			long square = (long) p * p;
+			if (square > high) {
+				break;
+			}
+			long first = Math.max(square, Math.ceilDiv(low, p) * p);
+			if ((first & 1) == 0) {
+				first += p; // only odd multiples are stored
+			}
+			for (long index = (first - low) >>> 1; index < bits; index += p) {
+				segment[(int) (index >>> 6)] &= ~(1L << index);
+			}
+		}
+		if (low == 1) {
+			segment[0] &= ~1L; // 1 is not prime
+		}
+	}
+
+	/**
+	 * Odd primes below bound using a simple odd-only sieve (bound ≈ √hi, at
+	 * most 2^25 + 1).
+	 */
+	private static int[] basePrimes(long bound) {
+		int n = (int) bound;
+		boolean[] composite = new boolean[n / 2 + 1]; // index i => 2i + 1
+		int count = 0;
+		int[] primes = new int[Math.max(16, (int) (1.3 * n / Math.max(1, Math.log(n))))];
+		for (int i = 1; 2 * i + 1 <= n; i++) {
+			if (!composite[i]) {
+				int p = 2 * i + 1;
+				if (count == primes.length) {
+					primes = Arrays.copyOf(primes, count * 2);
+				}
+				primes[count++] = p;
+				for (long j = ((long) p * p) >>> 1; j < composite.length; j += p) {
+					composite[(int) j] = true;
+				}
+			}
+		}
+		return Arrays.copyOf(primes, count);
+	}
+
+	private static IntStream setBits(long[] words, int bits) {
+		return BitSet.valueOf(words).stream().filter(i -> i < bits);
+	}
+
+	public static void main(String[] args) {
+		Scanner sc = new Scanner(System.in);
+
+		System.out.print("Enter the lower bound of the range: ");
+		long lo = sc.nextLong();
+		System.out.print("Enter the upper bound of the range: ");
+		long hi = sc.nextLong();
+
+		System.out.println("Number of primes in range: " + count(lo, hi, true));
+		System.out.print("First primes in range: ");
+		primes(lo, hi).limit(20).forEach(p -> System.out.print(p + " "));
+		System.out.println();
+		sc.close();
+	}
+
+}
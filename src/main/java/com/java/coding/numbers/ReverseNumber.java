@@ -9,6 +9,9 @@ public class ReverseNumber {
      * Time Complexity: O(log N) - The number has log₁₀(N) digits.
      * Space Complexity: O(1) - Uses only a few variables.
      *
+     * ⚠️ Silently overflows for 19-digit inputs whose reversal exceeds Long.MAX_VALUE;
+     *    use {@link #reverseNumberExact(long)} when that matters.
+     *
      * @param number The number to be reversed.
      * @return The reversed number.
      */
@@ -56,6 +59,23 @@ public class ReverseNumber {
         return Long.parseLong(reversedStr);
     }
 
+    /**
+     * Reverses the given number with the shared {@link DigitKernel}, two digits per step.
+     *
+     * ✅ Throws instead of silently overflowing
+     * ✅ No String allocation
+     * ✅ Batch form: {@link DigitKernel#reverseAll(long[], long[])}
+     *
+     * Time Complexity: O(log N / 2)
+     * Space Complexity: O(1)
+     *
+     * @param number The number to be reversed.
+     * @return The reversed number.
+     * @throws ArithmeticException if the reversed number does not fit in a long
+     */
+    public static long reverseNumberExact(long number) {
+        return DigitKernel.reverse(number);
+    }
 
     public static void main(String[] args) {
         try (Scanner scanner = new Scanner(System.in)) {
@@ -66,6 +86,11 @@ public class ReverseNumber {
             System.out.println("Reversed Number (Iterative): " + reverseNumber(number));
             System.out.println("Reversed Number (Recursive): " + reverseNumberRecursive(number, 0));
             System.out.println("Reversed Number (Using StringBuilder): " + reverseNumberUsingStringBuilder(number));
+            try {
+                System.out.println("Reversed Number (Digit kernel): " + reverseNumberExact(number));
+            } catch (ArithmeticException e) {
+                System.out.println("Reversed Number (Digit kernel): overflows long");
+            }
 
         }
     }
@@ -0,0 +1,120 @@
+package com.java.coding.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.java.coding.numbers.FibonacciEngine;
+
+class BoundedCacheTests {
+
+	private static final Weigher<Integer, String> LENGTH = (key, value) -> value.length();
+
+	@Test
+	void lruEvictsLeastRecentlyUsed() {
+		ComputationCache<Integer, String> cache = CacheBuilder.<Integer, String>newBuilder()
+				.maximumSize(3)
+				.evictionPolicy(EvictionPolicy.LRU)
+				.concurrencyLevel(1)
+				.build();
+		cache.put(1, "a");
+		cache.put(2, "b");
+		cache.put(3, "c");
+		cache.getIfPresent(1);
+		cache.put(4, "d");
+
+		assertNull(cache.getIfPresent(2));
+		assertNotNull(cache.getIfPresent(1));
+		assertNotNull(cache.getIfPresent(3));
+		assertNotNull(cache.getIfPresent(4));
+		assertEquals(3, cache.stats().size());
+		assertEquals(1, cache.stats().evictions());
+	}
+
+	@Test
+	void tinyLfuRejectsOneHitWondersThatLruWouldKeep() {
+		ComputationCache<Integer, String> tinyLfu = scanResistanceCache(EvictionPolicy.W_TINY_LFU);
+		ComputationCache<Integer, String> lru = scanResistanceCache(EvictionPolicy.LRU);
+
+		// The window (1% of the weight) keeps at most the latest newcomer
+		assertTrue(countPresent(tinyLfu, 1_000, 1_050) <= 1);
+		assertTrue(countPresent(tinyLfu, 0, 100) >= 98);
+		assertEquals(50, countPresent(lru, 1_000, 1_050));
+	}
+
+	@Test
+	void totalWeightStaysWithinMaximum() {
+		ComputationCache<Integer, String> cache = CacheBuilder.<Integer, String>newBuilder()
+				.maximumWeight(100, LENGTH)
+				.concurrencyLevel(1)
+				.build();
+		for (int i = 0; i < 50; i++) {
+			cache.put(i, "x".repeat(1 + i % 10));
+		}
+
+		CacheStats stats = cache.stats();
+		assertTrue(stats.weight() <= 100);
+		assertTrue(stats.evictions() > 0);
+		assertEquals(100, stats.maximumWeight());
+	}
+
+	@Test
+	void entryHeavierThanSegmentShareIsNotCached() {
+		ComputationCache<Integer, String> cache = CacheBuilder.<Integer, String>newBuilder()
+				.maximumWeight(100, LENGTH)
+				.concurrencyLevel(2)
+				.build();
+		cache.put(1, "x".repeat(50));
+		cache.put(2, "x".repeat(51));
+
+		assertNotNull(cache.getIfPresent(1));
+		assertNull(cache.getIfPresent(2));
+		assertEquals(1, cache.stats().evictions());
+	}
+
+	@Test
+	void loaderResultsAreCachedAndCounted() {
+		ComputationCache<Integer, String> cache = CacheBuilder.<Integer, String>newBuilder().maximumSize(10).build();
+
+		assertEquals("7", cache.get(7, String::valueOf));
+		assertEquals("7", cache.get(7, key -> "reloaded"));
+
+		CacheStats stats = cache.stats();
+		assertEquals(1, stats.loads());
+		assertEquals(1, stats.hits());
+		assertEquals(1, stats.misses());
+	}
+
+	@Test
+	void largeFibonacciResultIsCached() {
+		BigInteger value = FibonacciEngine.fibonacci(1_000_000);
+
+		assertEquals(value, FibonacciEngine.cache().getIfPresent(1_000_000));
+	}
+
+	private static ComputationCache<Integer, String> scanResistanceCache(EvictionPolicy policy) {
+		ComputationCache<Integer, String> cache = CacheBuilder.<Integer, String>newBuilder()
+				.maximumSize(100)
+				.evictionPolicy(policy)
+				.concurrencyLevel(1)
+				.build();
+		IntStream.range(0, 100).forEach(key -> cache.put(key, "hot"));
+		for (int round = 0; round < 5; round++) {
+			IntStream.range(0, 100).forEach(cache::getIfPresent);
+		}
+		IntStream.range(1_000, 1_050).forEach(key -> cache.put(key, "cold"));
+		return cache;
+	}
+
+	private static long countPresent(ComputationCache<Integer, String> cache, int from, int to) {
+		// snapshot() does not touch the frequency sketch or the access order
+		return IntStream.range(from, to).filter(cache.snapshot()::containsKey).count();
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.java.coding.numberlist;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveStrategiesTests {
+
+	private static final int[] EXTREMES = { Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 0, 1 };
+
+	@Test
+	void aggregationCandidatesAgreeOnExtremeInputs() {
+		for (int[] values : extremeInputs()) {
+			for (String aggregation : NumberListStrategies.aggregations()) {
+				List<String> candidates = AdaptiveStrategies.aggregationCandidates(aggregation);
+				Number expected = NumberListStrategies.aggregate(aggregation, candidates.get(0), values);
+				for (String strategy : candidates) {
+					assertEquals(expected, NumberListStrategies.aggregate(aggregation, strategy, values),
+							aggregation + " / " + strategy + " on " + values.length + " values");
+				}
+			}
+		}
+	}
+
+	@Test
+	void sortCandidatesAgreeOnExtremeInputs() {
+		for (int[] values : extremeInputs()) {
+			for (String order : NumberListStrategies.sortOrders()) {
+				List<String> candidates = AdaptiveStrategies.sortCandidates(order);
+				int[] expected = NumberListStrategies.sort(order, candidates.get(0), values);
+				for (String strategy : candidates) {
+					assertArrayEquals(expected, NumberListStrategies.sort(order, strategy, values),
+							order + " / " + strategy + " on " + values.length + " values");
+				}
+			}
+		}
+	}
+
+	@Test
+	void sortedMinMaxAreNotExplored() {
+		assertFalse(AdaptiveStrategies.aggregationCandidates("min").contains("findMinUsingSorted"));
+		assertFalse(AdaptiveStrategies.aggregationCandidates("max").contains("findMaxUsingSorted"));
+	}
+
+	// MIN/MAX-heavy inputs on both sides of the insertion-sort and fork-join cutovers
+	private static List<int[]> extremeInputs() {
+		Random random = new Random(42);
+		return List.of(
+				new int[] { Integer.MAX_VALUE, -2, 0, Integer.MIN_VALUE, 5 },
+				new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE, 1 },
+				new int[] { Integer.MIN_VALUE, Integer.MIN_VALUE, -1 },
+				random.ints(100, 0, EXTREMES.length).map(i -> EXTREMES[i]).toArray(),
+				random.ints(200_000, 0, EXTREMES.length).map(i -> EXTREMES[i]).toArray(),
+				random.ints(200_000).toArray());
+	}
+
+}